@@ -0,0 +1,139 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+import org.oscm.provisioning.interfaces.data.Subscription;
+import org.oscm.provisioning.interfaces.data.Template;
+
+/**
+ * Synthetic releases and subscriptions for the benchmarks.
+ */
+public class Fixtures {
+
+    private Fixtures() {
+    }
+
+    public static Template template(int variant) {
+        Template template = new Template();
+        template.setRepository("https://charts.example.org/stable");
+        template.setName("oscm-app-" + variant);
+        template.setVersion("1.0." + variant);
+        return template;
+    }
+
+    /**
+     * Creates a Helm values map with the given number of entries, mixing
+     * strings, numbers, booleans, lists and nested maps.
+     *
+     * @param size
+     *            the number of entries
+     * @return the parameters
+     */
+    public static Map<String, Object> parameters(int size) {
+
+        Map<String, Object> parameters = new HashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            switch (i % 5) {
+            case 0:
+                parameters.put("key" + i, "value-" + i);
+                break;
+            case 1:
+                parameters.put("replicas" + i, Double.valueOf(i));
+                break;
+            case 2:
+                parameters.put("enabled" + i, Boolean.valueOf(i % 2 == 0));
+                break;
+            case 3:
+                parameters.put("list" + i, Arrays.asList("a", "b", "c"));
+                break;
+            default:
+                Map<String, Object> nested = new HashMap<>();
+                nested.put("cpu", "100m");
+                nested.put("memory", "128Mi");
+                parameters.put("resources" + i, nested);
+            }
+        }
+
+        return parameters;
+    }
+
+    public static Release release(String target, Status status,
+            int parameters) {
+
+        Release release = new Release();
+        release.setId(UUID.randomUUID());
+        release.setTarget(target);
+        release.setNamespace("default");
+        release.setTemplate(template(0));
+        release.setParameters(parameters(parameters));
+        release.setStatus(status);
+        release.setInstance("oscm-" + release.getId());
+
+        return release;
+    }
+
+    /**
+     * Creates releases of which the given share is in a terminal status and
+     * the rest is split between pending and deployed.
+     *
+     * @param count
+     *            the number of releases
+     * @param terminalShare
+     *            the share of deleted or failed releases
+     * @param target
+     *            the target of all releases
+     * @return the releases
+     */
+    public static List<Release> releases(int count, double terminalShare,
+            String target) {
+
+        List<Release> releases = new ArrayList<>(count);
+        int terminal = (int) (count * terminalShare);
+
+        for (int i = 0; i < count; i++) {
+            Status status;
+            if (i < terminal) {
+                status = i % 2 == 0 ? Status.DELETED : Status.FAILED;
+            } else {
+                status = i % 10 == 0 ? Status.PENDING : Status.DEPLOYED;
+            }
+
+            releases.add(release(target, status, 10));
+        }
+
+        return releases;
+    }
+
+    public static Subscription subscription(UUID id, String target,
+            int parameters) {
+
+        Subscription sub = new Subscription();
+        sub.setId(id);
+        sub.setTarget(target);
+        sub.setNamespace("default");
+        sub.setTemplate(template(0));
+        sub.setParameters(parameters(parameters));
+
+        Map<String, String> labels = new HashMap<>();
+        labels.put("tenant", "t1");
+        sub.setLabels(labels);
+
+        return sub;
+    }
+}
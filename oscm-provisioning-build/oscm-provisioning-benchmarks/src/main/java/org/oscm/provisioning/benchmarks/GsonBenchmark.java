@@ -0,0 +1,98 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+import org.oscm.provisioning.interfaces.data.Subscription;
+
+import com.google.gson.Gson;
+
+/**
+ * Measures Gson round-trips of releases and subscriptions with large
+ * parameter maps. Run with "-prof gc" to see the allocation per event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GsonBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int parameters;
+
+    private Gson gson;
+
+    private Release release;
+    private Subscription subscription;
+
+    private String releaseJson;
+    private String subscriptionJson;
+
+    @Setup
+    public void setup() {
+        gson = new Gson();
+
+        release = Fixtures.release("http://rudder:8080", Status.DEPLOYED,
+                parameters);
+
+        Map<String, String> services = new HashMap<>();
+        services.put("oscm-app-svc", "10.0.0.1,<none>(80/TCP)");
+        release.setServices(services);
+
+        subscription = Fixtures.subscription(UUID.randomUUID(),
+                "http://rudder:8080", parameters);
+
+        releaseJson = gson.toJson(release);
+        subscriptionJson = gson.toJson(subscription);
+    }
+
+    @Benchmark
+    public String serializeRelease() {
+        return gson.toJson(release);
+    }
+
+    @Benchmark
+    public Release deserializeRelease() {
+        return gson.fromJson(releaseJson, Release.class);
+    }
+
+    @Benchmark
+    public Release roundTripRelease() {
+        return gson.fromJson(gson.toJson(release), Release.class);
+    }
+
+    @Benchmark
+    public String serializeSubscription() {
+        return gson.toJson(subscription);
+    }
+
+    @Benchmark
+    public Subscription deserializeSubscription() {
+        return gson.fromJson(subscriptionJson, Subscription.class);
+    }
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Copy of the substring and split based service extraction that
+ * RudderClient used before the single pass parser, kept as the baseline for
+ * comparison. The only difference is a bounds check in the loop. It only
+ * reads listings with single space separated tokens, as generated by
+ * {@link Resources}.
+ */
+public class LegacyResourceParser {
+
+    private static final String REGEX_SERVICE = "v1/Service";
+    private static final String REGEX_NEXT = "==>";
+
+    private static final int SERVICE_COLUMNS = 5;
+    private static final int SERVICE_COLUMN_NAME = 0;
+    private static final int SERVICE_COLUMN_INT_IP = 1;
+    private static final int SERVICE_COLUMN_EXT_IP = 2;
+    private static final int SERVICE_COLUMN_PORTS = 3;
+
+    private LegacyResourceParser() {
+    }
+
+    public static Map<String, String> parseServices(String resources) {
+
+        Map<String, String> services = new HashMap<>();
+
+        int begin = resources.indexOf(REGEX_SERVICE);
+        int end = resources.indexOf(REGEX_NEXT, begin);
+
+        if (begin < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        if (end < 0) {
+            end = resources.length() - 1;
+        }
+
+        String[] words = resources.substring(begin, end).split(" ");
+
+        for (int i = SERVICE_COLUMNS + 1; i
+                + SERVICE_COLUMN_PORTS < words.length; i += SERVICE_COLUMNS) {
+
+            String intIp = words[i + SERVICE_COLUMN_INT_IP];
+            String extIp = words[i + SERVICE_COLUMN_EXT_IP];
+            String ports = words[i + SERVICE_COLUMN_PORTS];
+
+            services.put(words[i + SERVICE_COLUMN_NAME],
+                    intIp + "," + extIp + "(" + ports + ")");
+        }
+
+        return services;
+    }
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.oscm.common.interfaces.exceptions.ServiceException;
+import org.oscm.common.rest.ClientManager;
+import org.oscm.common.rest.provider.SimpleMessageProvider;
+import org.oscm.provisioning.external.RudderClientRegistry;
+import org.oscm.provisioning.external.data.ReleaseStatusResponse;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+import org.oscm.provisioning.interfaces.enums.Application;
+import org.oscm.provisioning.services.BatchStatusPoller;
+import org.oscm.provisioning.services.PollSchedule;
+import org.oscm.provisioning.services.ReleaseIndex;
+import org.oscm.provisioning.services.ReleaseService;
+
+/**
+ * Measures a full UPDATE and MONITOR tick of ReleaseService over all releases
+ * against the in-process Rudder stub, with and without batched polling. The
+ * per-release schedule is disabled so every release is polled on every tick.
+ * The Rudder requests per tick are reported as secondary results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PollingTickBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int releases;
+
+    @Param({ "true", "false" })
+    public boolean batched;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Requests {
+
+        public long listRequests;
+        public long statusRequests;
+    }
+
+    private RudderStub stub;
+    private ReleaseService service;
+
+    private List<Release> pending;
+    private List<Release> deployed;
+
+    @Setup
+    public void setup() throws IOException {
+
+        ClientManager.getInstance().addAuthentication(Application.RUDDER,
+                "admin", "admin123");
+        ClientManager.getInstance().addProvider(Application.RUDDER,
+                SimpleMessageProvider.class);
+
+        stub = new RudderStub(5);
+        String url = stub.start();
+
+        PollSchedule.getInstance().init(0, 0, 0, 0, 1.0, 0.0);
+        BatchStatusPoller.getInstance().init(batched, Long.MAX_VALUE);
+
+        pending = Fixtures.releases(releases / 2, 0.0, url);
+        deployed = Fixtures.releases(releases / 2, 0.0, url);
+
+        for (Release release : pending) {
+            release.setStatus(Status.PENDING);
+            stub.putRelease(release.getInstance(),
+                    ReleaseStatusResponse.UNKNOWN);
+            ReleaseIndex.getInstance().update(release);
+        }
+
+        for (Release release : deployed) {
+            release.setStatus(Status.DEPLOYED);
+            stub.putRelease(release.getInstance(),
+                    ReleaseStatusResponse.DEPLOYED);
+            ReleaseIndex.getInstance().update(release);
+        }
+
+        service = new ReleaseService();
+    }
+
+    @Setup(Level.Invocation)
+    public void newTick() {
+        BatchStatusPoller.getInstance().clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        stub.stop();
+        RudderClientRegistry.getInstance().clear();
+        ReleaseIndex.getInstance().clear();
+    }
+
+    @Benchmark
+    public void updateTick(Requests requests) throws ServiceException {
+
+        long list = stub.getListRequests();
+        long status = stub.getStatusRequests();
+
+        for (Release release : pending) {
+            service.update(release);
+        }
+
+        requests.listRequests += stub.getListRequests() - list;
+        requests.statusRequests += stub.getStatusRequests() - status;
+    }
+
+    @Benchmark
+    public void monitorTick(Requests requests) throws ServiceException {
+
+        long list = stub.getListRequests();
+        long status = stub.getStatusRequests();
+
+        for (Release release : deployed) {
+            service.monitor(release);
+        }
+
+        requests.listRequests += stub.getListRequests() - list;
+        requests.statusRequests += stub.getStatusRequests() - status;
+    }
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.oscm.provisioning.interfaces.adapters.ValueInterner;
+import org.oscm.provisioning.interfaces.data.Release;
+
+import com.google.gson.Gson;
+
+/**
+ * Measures the heap footprint of 100k deserialized releases with and without
+ * interning of templates and parameters. The releases share a few templates
+ * and default parameters and have one parameter of their own. The retained
+ * heap per release is printed in the setup, the restore benchmark shows the
+ * cost of interning on decoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" })
+public class ReleaseFootprintBenchmark {
+
+    private static final int RELEASES = 100000;
+    private static final int TEMPLATES = 5;
+
+    @Param({ "false", "true" })
+    public boolean intern;
+
+    private Gson gson;
+    private byte[][] store;
+    private Release[] restored;
+
+    @Setup
+    public void setup() {
+        gson = new Gson();
+
+        ValueInterner.getInstance().init(intern,
+                ValueInterner.DEFAULT_MAX_SIZE);
+
+        List<Release> releases = Fixtures.releases(RELEASES, 0.2,
+                "http://rudder:8080");
+
+        store = new byte[RELEASES][];
+
+        for (int i = 0; i < RELEASES; i++) {
+            Release release = releases.get(i);
+            release.setTimestamp(new Date());
+            release.setTemplate(Fixtures.template(i % TEMPLATES));
+
+            Map<String, Object> parameters = new HashMap<>(
+                    release.getParameters());
+            parameters.put("instance", release.getInstance());
+            release.setParameters(parameters);
+
+            store[i] = encode(release);
+        }
+
+        releases = null;
+
+        // a field, a local could be collected before the measurement
+        restored = new Release[RELEASES];
+        for (int i = 0; i < RELEASES; i++) {
+            restored[i] = decode(store[i]);
+        }
+
+        long retained = usedHeap();
+        restored = null;
+        long released = usedHeap();
+
+        System.out.printf("%nintern %s: %d bytes retained per release%n",
+                Boolean.valueOf(intern),
+                Long.valueOf((retained - released) / RELEASES));
+    }
+
+    private static long usedHeap() {
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private byte[] encode(Release release) {
+        return gson.toJson(release).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Release decode(byte[] data) {
+        return gson.fromJson(new String(data, StandardCharsets.UTF_8),
+                Release.class);
+    }
+
+    @Benchmark
+    public void restore(Blackhole bh) {
+        for (byte[] data : store) {
+            bh.consume(decode(data));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.oscm.common.interfaces.exceptions.ServiceException;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.services.PollSchedule;
+import org.oscm.provisioning.services.ReleaseIndex;
+import org.oscm.provisioning.services.ReleaseService;
+
+/**
+ * Measures the cost of an UPDATE and a MONITOR tick that visits every
+ * release of the table, as the timed streams do, for a table where most
+ * releases are terminal and no live release is due for polling. This is the
+ * fixed cost a tick adds per release, including keeping the release index up
+ * to date. Also measures the index update alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReleaseIndexBenchmark {
+
+    // deployed releases are first due at a random time within the interval
+    private static final long NOT_DUE = 1000000000000L; // ms
+
+    @Param({ "100000" })
+    public int releases;
+
+    @Param({ "0.9" })
+    public double terminalShare;
+
+    private List<Release> list;
+    private ReleaseService service;
+
+    @Setup
+    public void setup() {
+        list = Fixtures.releases(releases, terminalShare, "http://rudder:8080");
+
+        PollSchedule schedule = PollSchedule.getInstance();
+        schedule.init(NOT_DUE, NOT_DUE, NOT_DUE, NOT_DUE, 1.0, 0.0);
+
+        // the first poll of a pending release is due right away
+        for (Release release : list) {
+            schedule.isDue(release);
+            ReleaseIndex.getInstance().update(release);
+        }
+
+        service = new ReleaseService();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ReleaseIndex.getInstance().clear();
+    }
+
+    @Benchmark
+    public void updateTick(Blackhole bh) throws ServiceException {
+        for (Release release : list) {
+            bh.consume(service.update(release));
+        }
+    }
+
+    @Benchmark
+    public void monitorTick(Blackhole bh) throws ServiceException {
+        for (Release release : list) {
+            bh.consume(service.monitor(release));
+        }
+    }
+
+    @Benchmark
+    public void indexUpdate() {
+        ReleaseIndex index = ReleaseIndex.getInstance();
+        for (Release release : list) {
+            index.update(release);
+        }
+    }
+}
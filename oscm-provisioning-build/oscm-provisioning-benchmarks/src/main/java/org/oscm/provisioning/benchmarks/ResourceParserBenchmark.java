@@ -0,0 +1,67 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.oscm.common.interfaces.exceptions.ServiceException;
+import org.oscm.provisioning.external.ResourceParser;
+
+/**
+ * Compares the single pass service extraction with the previous split based
+ * implementation on kubectl-style listings. Run with "-prof gc" to compare
+ * the allocation per listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceParserBenchmark {
+
+    @Param({ "10", "100", "500" })
+    public int services;
+
+    private String resources;
+
+    @Setup
+    public void setup() throws ServiceException {
+        resources = Resources.generate(services);
+
+        // both parsers have to read the listing the same way
+        Map<String, String> parsed = ResourceParser.parseServices(resources);
+        if (parsed.size() != services
+                || !parsed.equals(LegacyResourceParser.parseServices(resources))) {
+            throw new IllegalStateException("Parsers disagree on the listing");
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> streaming() throws ServiceException {
+        return ResourceParser.parseServices(resources);
+    }
+
+    @Benchmark
+    public Map<String, String> legacy() {
+        return LegacyResourceParser.parseServices(resources);
+    }
+}
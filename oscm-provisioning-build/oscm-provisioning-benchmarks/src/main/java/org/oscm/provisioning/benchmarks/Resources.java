@@ -0,0 +1,57 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.benchmarks;
+
+/**
+ * Generates resource listings as returned by Rudder with the release status,
+ * with the tokens of all sections separated by single spaces. Both the
+ * single pass parser and the previous split based parser read this layout,
+ * so their results are the same.
+ */
+public class Resources {
+
+    private Resources() {
+    }
+
+    /**
+     * Generates a listing with a deployment, the given number of services and
+     * a pod section.
+     *
+     * @param services
+     *            the number of service rows
+     * @return the listing
+     */
+    public static String generate(int services) {
+
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("==> v1/Deployment ");
+        sb.append("NAME DESIRED CURRENT UP-TO-DATE AVAILABLE AGE ");
+        sb.append("oscm-app 1 1 1 1 2d ");
+
+        sb.append("==> v1/Service ");
+        sb.append("NAME CLUSTER-IP EXTERNAL-IP PORT(S) AGE ");
+
+        for (int i = 0; i < services; i++) {
+            sb.append("oscm-app-svc-").append(i).append(' ');
+            sb.append("10.0.").append(i / 250).append('.').append(i % 250)
+                    .append(' ');
+            sb.append(i % 2 == 0 ? "<none>" : "172.16.0." + (i % 250))
+                    .append(' ');
+            sb.append("80:").append(30000 + i).append("/TCP,443/TCP ");
+            sb.append("2d ");
+        }
+
+        sb.append("==> v1/Pod ");
+        sb.append("NAME READY STATUS RESTARTS AGE ");
+        sb.append("oscm-app-3245178341-x2kqj 1/1 Running 0 2d");
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.oscm.common.interfaces.exceptions.ServiceException;
+import org.oscm.common.rest.ClientManager;
+import org.oscm.common.rest.provider.SimpleMessageProvider;
+import org.oscm.provisioning.external.ConcurrencyLimiter;
+import org.oscm.provisioning.external.RudderClient;
+import org.oscm.provisioning.external.RudderClientRegistry;
+import org.oscm.provisioning.external.data.ReleaseStatusResponse;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+import org.oscm.provisioning.interfaces.enums.Application;
+
+/**
+ * Drives many concurrent status calls against a Rudder stub whose latency
+ * rises with the number of concurrent requests, to observe the concurrency
+ * limit the adaptive limiter settles on. The learned limit and latency
+ * baseline are reported as secondary results of each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class RudderLoadBenchmark {
+
+    @Param({ "16", "64" })
+    public int maxConcurrency;
+
+    private RudderStub stub;
+    private RudderClient client;
+    private Release release;
+
+    @Setup
+    public void setup() throws IOException {
+
+        ClientManager.getInstance().addAuthentication(Application.RUDDER,
+                "admin", "admin123");
+        ClientManager.getInstance().addProvider(Application.RUDDER,
+                SimpleMessageProvider.class);
+
+        stub = new RudderStub(5);
+        stub.setLatency(2, 1);
+
+        String url = stub.start();
+
+        RudderClientRegistry.getInstance().initIsolation(
+                ConcurrencyLimiter.DEFAULT_INITIAL_LIMIT, maxConcurrency,
+                ConcurrencyLimiter.DEFAULT_TOLERANCE, Integer.MAX_VALUE,
+                Long.MAX_VALUE, 1);
+
+        client = RudderClientRegistry.getInstance().getClient(url);
+
+        release = Fixtures.release(url, Status.DEPLOYED, 0);
+        stub.putRelease(release.getInstance(),
+                ReleaseStatusResponse.DEPLOYED);
+    }
+
+    /**
+     * Reports the state of the limiter at the end of an iteration. Counters
+     * are summed over the threads, so only the first thread reports.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Limits {
+
+        private ConcurrencyLimiter limiter;
+        private boolean reporting;
+
+        @Setup(Level.Iteration)
+        public void setup(RudderLoadBenchmark benchmark, ThreadParams params) {
+            limiter = benchmark.client.getConcurrencyLimiter();
+            reporting = params.getThreadIndex() == 0;
+        }
+
+        public long limit() {
+            return reporting ? limiter.getLimit() : 0;
+        }
+
+        public long baselineMicros() {
+            return reporting ? TimeUnit.NANOSECONDS
+                    .toMicros(limiter.getBaseline("status")) : 0;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        stub.stop();
+        RudderClientRegistry.getInstance().clear();
+    }
+
+    @Benchmark
+    public void status(Limits limits) throws ServiceException {
+
+        Release copy = new Release();
+        copy.setInstance(release.getInstance());
+        copy.setTemplate(release.getTemplate());
+
+        client.releaseStatus(copy);
+    }
+}
@@ -0,0 +1,225 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in for the Rudder REST proxy. Serves the release listing,
+ * the release status and accepts install, upgrade and uninstall requests.
+ * Counts the requests it receives and can simulate a latency that rises with
+ * the number of concurrent requests.
+ */
+public class RudderStub {
+
+    private static final String PREFIX = "/api/v1/releases";
+    private static final String SUFFIX_STATUS = "/status";
+
+    private final Map<String, Integer> releases = new ConcurrentHashMap<>();
+    private final String resources;
+
+    private final AtomicLong listRequests = new AtomicLong();
+    private final AtomicLong statusRequests = new AtomicLong();
+    private final AtomicLong otherRequests = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile long baseLatency;
+    private volatile long latencyPerRequest;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Creates a stub whose status responses list the given number of
+     * services.
+     *
+     * @param services
+     *            the number of services per release
+     */
+    public RudderStub(int services) {
+        this.resources = Resources.generate(services);
+    }
+
+    /**
+     * Starts the stub on a free local port.
+     *
+     * @return the base URL of the stub
+     * @throws IOException
+     */
+    public String start() throws IOException {
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        executor = Executors.newCachedThreadPool();
+
+        server.createContext(PREFIX, this::handle);
+        server.setExecutor(executor);
+        server.start();
+
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Sets the simulated latency. Each request takes the base latency plus
+     * the given latency for every other request in flight.
+     *
+     * @param baseLatency
+     *            the latency in ms of a single request
+     * @param latencyPerRequest
+     *            the additional latency in ms per concurrent request
+     */
+    public void setLatency(long baseLatency, long latencyPerRequest) {
+        this.baseLatency = baseLatency;
+        this.latencyPerRequest = latencyPerRequest;
+    }
+
+    public void putRelease(String name, int code) {
+        releases.put(name, Integer.valueOf(code));
+    }
+
+    public long getListRequests() {
+        return listRequests.get();
+    }
+
+    public long getStatusRequests() {
+        return statusRequests.get();
+    }
+
+    public long getOtherRequests() {
+        return otherRequests.get();
+    }
+
+    public void resetCounters() {
+        listRequests.set(0);
+        statusRequests.set(0);
+        otherRequests.set(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+
+        int concurrent = inFlight.incrementAndGet();
+
+        try {
+            drain(exchange.getRequestBody());
+            simulateLatency(concurrent);
+
+            String path = exchange.getRequestURI().getPath();
+            String body;
+
+            if ("GET".equals(exchange.getRequestMethod())
+                    && path.endsWith(SUFFIX_STATUS)) {
+                statusRequests.incrementAndGet();
+
+                String name = path.substring(PREFIX.length() + 1,
+                        path.indexOf('/', PREFIX.length() + 1));
+                body = status(name);
+
+            } else if ("GET".equals(exchange.getRequestMethod())) {
+                listRequests.incrementAndGet();
+                body = list();
+
+            } else {
+                otherRequests.incrementAndGet();
+                body = "{}";
+            }
+
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().set("Content-Type",
+                    "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private String list() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"count\":").append(releases.size())
+                .append(",\"releases\":[");
+
+        boolean first = true;
+        for (Map.Entry<String, Integer> release : releases.entrySet()) {
+            if (!first) {
+                sb.append(',');
+            }
+            first = false;
+
+            sb.append("{\"name\":\"").append(release.getKey())
+                    .append("\",\"info\":{\"status\":{\"code\":")
+                    .append(release.getValue()).append("}}}");
+        }
+
+        return sb.append("]}").toString();
+    }
+
+    private String status(String name) {
+
+        Integer code = releases.get(name);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"name\":\"").append(name)
+                .append("\",\"info\":{\"status\":{\"code\":")
+                .append(code != null ? code.intValue() : 0)
+                .append(",\"resource\":\"");
+
+        for (int i = 0; i < resources.length(); i++) {
+            char c = resources.charAt(i);
+            if (c == '\n') {
+                sb.append("\\n");
+            } else {
+                sb.append(c);
+            }
+        }
+
+        return sb.append("\"}}}").toString();
+    }
+
+    private void simulateLatency(int concurrent) {
+
+        long latency = baseLatency + latencyPerRequest * (concurrent - 1);
+
+        if (latency > 0) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void drain(InputStream in) throws IOException {
+        byte[] buffer = new byte[4096];
+        while (in.read(buffer) >= 0) {
+            // discard request body
+        }
+    }
+}
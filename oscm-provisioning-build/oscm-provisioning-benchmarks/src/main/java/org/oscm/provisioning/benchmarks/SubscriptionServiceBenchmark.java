@@ -0,0 +1,98 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.benchmarks;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.oscm.common.interfaces.data.Event;
+import org.oscm.common.interfaces.enums.Operation;
+import org.oscm.common.interfaces.events.EventSource;
+import org.oscm.common.interfaces.exceptions.ServiceException;
+import org.oscm.common.util.ServiceManager;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+import org.oscm.provisioning.interfaces.data.Subscription;
+import org.oscm.provisioning.interfaces.enums.Entity;
+import org.oscm.provisioning.services.SubscriptionService;
+
+/**
+ * Measures the PROVISION transition for new and updated subscriptions
+ * against a mocked release table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubscriptionServiceBenchmark {
+
+    private static final String TARGET = "http://rudder:8080";
+
+    @Param({ "10", "1000" })
+    public int parameters;
+
+    private SubscriptionService service;
+
+    private Subscription create;
+    private Subscription update;
+    private Release existing;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        service = new SubscriptionService();
+
+        existing = Fixtures.release(TARGET, Status.DEPLOYED, parameters);
+        existing.setTimestamp(new Date(0));
+
+        EventSource<Release> source = mock(EventSource.class);
+        when(source.get(any(UUID.class))).thenReturn(null);
+        when(source.get(existing.getId())).thenReturn(existing);
+
+        ServiceManager.getInstance().setEventSource(Entity.RELEASE,
+                () -> source);
+
+        create = Fixtures.subscription(UUID.randomUUID(), TARGET, parameters);
+        create.setOperation(Operation.UPDATE);
+        create.setTimestamp(new Date());
+
+        update = Fixtures.subscription(existing.getId(), TARGET, parameters);
+        update.setOperation(Operation.UPDATE);
+        update.setTimestamp(new Date());
+    }
+
+    @Benchmark
+    public List<Event> provisionNew() throws ServiceException {
+        return service.provision(create);
+    }
+
+    @Benchmark
+    public List<Event> provisionUpdate() throws ServiceException {
+        return service.provision(update);
+    }
+}
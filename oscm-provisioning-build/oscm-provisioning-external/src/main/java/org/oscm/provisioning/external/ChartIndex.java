@@ -0,0 +1,165 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Charts and versions of a chart repository, parsed from its index.yaml.
+ * Only the entries section is read: the chart names on the first level and
+ * the version key of each listed chart version. Nested keys of a chart
+ * version, e.g. the versions of its dependencies, are ignored.
+ */
+public class ChartIndex {
+
+    private static final String SECTION_ENTRIES = "entries:";
+    private static final String KEY_VERSION = "version:";
+
+    private final Map<String, Set<String>> charts;
+
+    private ChartIndex(Map<String, Set<String>> charts) {
+        this.charts = charts;
+    }
+
+    public boolean hasChart(String chart) {
+        return charts.containsKey(chart);
+    }
+
+    /**
+     * Checks whether the index contains the given chart version.
+     *
+     * @param chart
+     *            the chart name
+     * @param version
+     *            the version, any version if null
+     * @return true if contained
+     */
+    public boolean hasVersion(String chart, String version) {
+        Set<String> versions = charts.get(chart);
+        return versions != null
+                && (version == null || versions.contains(version));
+    }
+
+    public int size() {
+        return charts.size();
+    }
+
+    /**
+     * Parses the given index.yaml.
+     *
+     * @param reader
+     *            the reader of the index
+     * @return the index, null if the content has no entries section
+     * @throws IOException
+     *             if the index cannot be read
+     */
+    public static ChartIndex parse(BufferedReader reader) throws IOException {
+
+        Map<String, Set<String>> charts = new HashMap<>();
+
+        boolean entries = false;
+        boolean found = false;
+        Set<String> versions = null;
+        int chartIndent = -1;
+        int dashIndent = -1;
+        int keyIndent = -1;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+
+            int indent = indentOf(line, 0);
+
+            if (indent == line.length() || line.charAt(indent) == '#') {
+                continue;
+            }
+
+            if (indent == 0) {
+                entries = line.startsWith(SECTION_ENTRIES);
+                found |= entries;
+                versions = null;
+                chartIndent = -1;
+                continue;
+            }
+
+            if (!entries) {
+                continue;
+            }
+
+            if (chartIndent < 0) {
+                chartIndent = indent;
+            }
+
+            if (indent == chartIndent && line.charAt(indent) != '-') {
+                // chart name, its versions follow as list
+                int colon = line.indexOf(':', indent);
+                versions = new HashSet<>();
+                charts.put(unquote(line.substring(indent,
+                        colon < 0 ? line.length() : colon)), versions);
+                dashIndent = -1;
+                keyIndent = -1;
+                continue;
+            }
+
+            if (versions == null) {
+                continue;
+            }
+
+            int key = indent;
+
+            if (line.charAt(indent) == '-'
+                    && (dashIndent < 0 || indent == dashIndent)) {
+                // next chart version, its keys are indented past the dash
+                dashIndent = indent;
+                key = indentOf(line, indent + 1);
+                keyIndent = key;
+            }
+
+            if (key == keyIndent && line.startsWith(KEY_VERSION, key)) {
+                versions.add(unquote(
+                        line.substring(key + KEY_VERSION.length())));
+            }
+        }
+
+        if (!found) {
+            return null;
+        }
+
+        charts.replaceAll((c, v) -> Collections.unmodifiableSet(v));
+
+        return new ChartIndex(charts);
+    }
+
+    private static int indentOf(String line, int from) {
+        int i = from;
+        while (i < line.length() && line.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static String unquote(String value) {
+
+        String trimmed = value.trim();
+
+        if (trimmed.length() >= 2
+                && (trimmed.charAt(0) == '"' || trimmed.charAt(0) == '\'')
+                && trimmed.charAt(trimmed.length() - 1) == trimmed
+                        .charAt(0)) {
+            return trimmed.substring(1, trimmed.length() - 1);
+        }
+
+        return trimmed;
+    }
+}
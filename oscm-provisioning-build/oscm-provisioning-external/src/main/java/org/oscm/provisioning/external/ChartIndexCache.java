@@ -0,0 +1,407 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.oscm.common.interfaces.exceptions.ValidationException;
+import org.oscm.provisioning.interfaces.data.Template;
+import org.oscm.provisioning.interfaces.enums.Messages;
+import org.oscm.provisioning.interfaces.metrics.Metrics;
+
+/**
+ * Bounded cache of the chart indexes of the template repositories, so the
+ * coordinates of a template are validated before a release is executed. An
+ * index is loaded from the index.yaml of the repository and cached for a fixed
+ * time, the least recently used repositories are evicted first. The indexes of
+ * repositories used often are reloaded in the background before they expire,
+ * and indexes are prefetched when a subscription is provisioned. Validation
+ * only fails for repositories that have no valid index or do not contain the
+ * chart version. Repositories that are not URLs or cannot be reached are not
+ * validated, Rudder decides about them as before.
+ * <p>
+ * Validation never waits for a repository: a template of a repository whose
+ * index is not loaded yet is not validated, the index is loaded in the
+ * background. A template rejected by an index older than the reload age
+ * triggers a reload and passes, so a newly published chart version is not
+ * rejected by a stale index.
+ */
+public class ChartIndexCache {
+
+    public static final long DEFAULT_TTL = 300000; // ms
+    public static final int DEFAULT_MAX_SIZE = 100;
+    public static final int DEFAULT_REFRESH_HITS = 10;
+    public static final int DEFAULT_TIMEOUT = 2000; // ms
+    public static final long DEFAULT_RELOAD_AGE = 10000; // ms
+
+    public static final String HITS = "provisioning_chart_index_hits_total";
+    public static final String MISSES = "provisioning_chart_index_misses_total";
+    public static final String REJECTED = "provisioning_chart_index_rejected_total";
+
+    private static final String INDEX_FILE = "index.yaml";
+    private static final long MIN_REFRESH_PERIOD = 1000; // ms
+    private static final int LOADER_THREADS = 2;
+
+    private static final String ERROR_REPOSITORY = "Chart repository %s has no valid index: %s";
+    private static final String ERROR_CHART = "Chart %s not found in repository %s";
+    private static final String ERROR_VERSION = "Version %s of chart %s not found in repository %s";
+
+    private static final ChartIndexCache cache = new ChartIndexCache();
+
+    /**
+     * Gets the singleton instance of the cache.
+     *
+     * @return the cache
+     */
+    public static ChartIndexCache getInstance() {
+        return cache;
+    }
+
+    private static class CachedIndex {
+
+        private final ChartIndex index;
+        private final String error;
+        private final long loaded;
+        private int hits;
+
+        private CachedIndex(ChartIndex index, String error) {
+            this.index = index;
+            this.error = error;
+            this.loaded = System.currentTimeMillis();
+        }
+
+        private boolean isUnknown() {
+            return index == null && error == null;
+        }
+    }
+
+    private final LongAdder hits = Metrics.getInstance().counter(HITS);
+    private final LongAdder misses = Metrics.getInstance().counter(MISSES);
+    private final LongAdder rejected = Metrics.getInstance()
+            .counter(REJECTED);
+
+    private final ConcurrentMap<String, CompletableFuture<CachedIndex>> loading = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled = false;
+    private volatile long ttl = DEFAULT_TTL;
+    private volatile int maxSize = DEFAULT_MAX_SIZE;
+    private volatile int refreshHits = DEFAULT_REFRESH_HITS;
+    private volatile int timeout = DEFAULT_TIMEOUT;
+
+    private final long reloadAge;
+
+    private ScheduledExecutorService loader;
+
+    private final Map<String, CachedIndex> entries = new LinkedHashMap<String, CachedIndex>(
+            16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(
+                Map.Entry<String, CachedIndex> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private ChartIndexCache() {
+        this(DEFAULT_RELOAD_AGE);
+    }
+
+    ChartIndexCache(long reloadAge) {
+        this.reloadAge = reloadAge;
+    }
+
+    /**
+     * Configures the cache and starts the background refresh.
+     *
+     * @param enabled
+     *            true to validate templates
+     * @param ttl
+     *            the time an index is cached in ms
+     * @param maxSize
+     *            the maximum number of cached repositories
+     * @param refreshHits
+     *            the number of uses within the ttl after which an index is
+     *            refreshed before it expires
+     * @param timeout
+     *            the connect and read timeout for loading an index in ms
+     */
+    public synchronized void init(boolean enabled, long ttl, int maxSize,
+            int refreshHits, int timeout) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.refreshHits = refreshHits;
+        this.timeout = timeout;
+
+        shutdown();
+
+        if (enabled) {
+            loader = Executors.newScheduledThreadPool(LOADER_THREADS, (r) -> {
+                Thread thread = new Thread(r, "chart-index-loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            long period = Math.max(MIN_REFRESH_PERIOD, ttl / 4);
+            loader.scheduleWithFixedDelay(this::refresh, period, period,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized void shutdown() {
+        if (loader != null) {
+            loader.shutdownNow();
+            loader = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Validates the coordinates of the given template against the index of
+     * its repository. Starts loading the index if it is not cached.
+     *
+     * @param template
+     *            the template
+     * @throws ValidationException
+     *             if the repository has no valid index or does not contain
+     *             the chart version
+     */
+    public void validate(Template template) throws ValidationException {
+
+        if (!enabled || template == null
+                || template.getRepository() == null) {
+            return;
+        }
+
+        CachedIndex entry = get(template.getRepository());
+
+        if (entry == null || entry.isUnknown()) {
+            return;
+        }
+
+        String error = null;
+
+        if (entry.index == null) {
+            error = String.format(ERROR_REPOSITORY, template.getRepository(),
+                    entry.error);
+        } else if (!entry.index.hasChart(template.getName())) {
+            error = String.format(ERROR_CHART, template.getName(),
+                    template.getRepository());
+        } else if (!entry.index.hasVersion(template.getName(),
+                template.getVersion())) {
+            error = String.format(ERROR_VERSION, template.getVersion(),
+                    template.getName(), template.getRepository());
+        }
+
+        if (error != null) {
+
+            // the index may predate a newly published chart version
+            if (System.currentTimeMillis() - entry.loaded >= reloadAge) {
+                load(template.getRepository());
+                return;
+            }
+
+            rejected.increment();
+            throw new ValidationException(Messages.ERROR, null, error);
+        }
+    }
+
+    /**
+     * Loads the index of the repository of the given template in the
+     * background if it is not cached.
+     *
+     * @param template
+     *            the template
+     */
+    public void prefetch(Template template) {
+
+        if (!enabled || template == null
+                || template.getRepository() == null) {
+            return;
+        }
+
+        String repository = template.getRepository();
+
+        if (lookup(repository) == null) {
+            load(repository);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private CachedIndex get(String repository) {
+
+        CachedIndex entry = lookup(repository);
+
+        if (entry != null) {
+            hits.increment();
+            return entry;
+        }
+
+        misses.increment();
+
+        // the stream thread does not wait for the repository
+        return load(repository).getNow(null);
+    }
+
+    private synchronized CachedIndex lookup(String repository) {
+
+        CachedIndex entry = entries.get(repository);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (System.currentTimeMillis() - entry.loaded >= ttl) {
+            entries.remove(repository);
+            return null;
+        }
+
+        entry.hits++;
+
+        return entry;
+    }
+
+    private CompletableFuture<CachedIndex> load(String repository) {
+
+        // concurrent loads of the same repository share one request
+        CompletableFuture<CachedIndex> future = new CompletableFuture<>();
+        CompletableFuture<CachedIndex> existing = loading
+                .putIfAbsent(repository, future);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        Runnable task = () -> {
+            CachedIndex entry = fetch(repository);
+
+            synchronized (this) {
+                entries.put(repository, entry);
+            }
+
+            loading.remove(repository, future);
+            future.complete(entry);
+        };
+
+        try {
+            synchronized (this) {
+                if (loader == null) {
+                    throw new RejectedExecutionException();
+                }
+                loader.execute(task);
+            }
+        } catch (RejectedExecutionException e) {
+            // shut down, skip the validation
+            loading.remove(repository, future);
+            future.complete(new CachedIndex(null, null));
+        }
+
+        return future;
+    }
+
+    private void refresh() {
+
+        long now = System.currentTimeMillis();
+        List<String> hot = new ArrayList<>();
+
+        synchronized (this) {
+            entries.forEach((r, e) -> {
+                if (e.hits >= refreshHits && now - e.loaded >= ttl / 2) {
+                    hot.add(r);
+                }
+            });
+        }
+
+        hot.forEach(this::load);
+    }
+
+    private CachedIndex fetch(String repository) {
+
+        URL url;
+        try {
+            url = new URL(repository.endsWith("/") ? repository + INDEX_FILE
+                    : repository + "/" + INDEX_FILE);
+        } catch (MalformedURLException e) {
+            // e.g. a repository name known to Rudder only
+            return new CachedIndex(null, null);
+        }
+
+        try {
+            URLConnection connection = url.openConnection();
+            connection.setConnectTimeout(timeout);
+            connection.setReadTimeout(timeout);
+
+            if (connection instanceof HttpURLConnection) {
+                int code = ((HttpURLConnection) connection).getResponseCode();
+
+                if (code == HttpURLConnection.HTTP_NOT_FOUND) {
+                    return new CachedIndex(null, "not found");
+                }
+
+                if (code != HttpURLConnection.HTTP_OK) {
+                    return new CachedIndex(null, null);
+                }
+            }
+
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(connection.getInputStream(),
+                            StandardCharsets.UTF_8))) {
+                ChartIndex index = ChartIndex.parse(reader);
+
+                return index != null ? new CachedIndex(index, null)
+                        : new CachedIndex(null, "no chart entries");
+            }
+        } catch (FileNotFoundException e) {
+            return new CachedIndex(null, "not found");
+        } catch (IOException e) {
+            // unreachable or too slow, do not block the release
+            return new CachedIndex(null, null);
+        }
+    }
+}
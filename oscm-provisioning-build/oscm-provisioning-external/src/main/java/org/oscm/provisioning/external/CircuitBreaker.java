@@ -0,0 +1,159 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Circuit breaker for the calls to a single Rudder target. After a number of
+ * consecutive connection failures the circuit opens and calls are rejected
+ * without contacting the target. Once the open timeout passed, the circuit
+ * becomes half open and lets a limited number of probe calls through. A
+ * successful probe closes the circuit, a failed one opens it again. Calls
+ * that missed their deadline open the circuit once as many of them as the
+ * failure threshold happened in a row, or if a probe missed it.
+ */
+public class CircuitBreaker {
+
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final long DEFAULT_OPEN_TIMEOUT = 30000; // ms
+    public static final int DEFAULT_PROBES = 1;
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openTimeout;
+    private final int probes;
+
+    private State state = State.CLOSED;
+    private int failures;
+    private int deadlines;
+    private int probing;
+    private long openedAt;
+
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong opened = new AtomicLong();
+
+    public CircuitBreaker() {
+        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_TIMEOUT, DEFAULT_PROBES);
+    }
+
+    public CircuitBreaker(int failureThreshold, long openTimeout, int probes) {
+        this.failureThreshold = failureThreshold;
+        this.openTimeout = openTimeout;
+        this.probes = probes;
+    }
+
+    /**
+     * Asks for permission to call the target. Every granted permission needs
+     * to be followed by either {@link #onSuccess()} or {@link #onFailure()}.
+     *
+     * @return true if the call may proceed
+     */
+    public synchronized boolean tryAcquire() {
+
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openTimeout) {
+                rejected.incrementAndGet();
+                return false;
+            }
+
+            state = State.HALF_OPEN;
+            probing = 0;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (probing >= probes) {
+                rejected.incrementAndGet();
+                return false;
+            }
+
+            probing++;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks without side effects whether calls would currently be rejected.
+     *
+     * @return true if the circuit is open and the open timeout did not pass
+     */
+    public synchronized boolean isOpen() {
+        return state == State.OPEN
+                && System.currentTimeMillis() - openedAt < openTimeout;
+    }
+
+    /**
+     * Records a successful call.
+     */
+    public synchronized void onSuccess() {
+        failures = 0;
+        deadlines = 0;
+
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+        }
+    }
+
+    /**
+     * Records a failed call.
+     */
+    public synchronized void onFailure() {
+        failures++;
+
+        if (state == State.HALF_OPEN || failures >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * Records a call that missed its deadline. A single miss is not held
+     * against the target, repeated misses are.
+     */
+    public synchronized void onDeadline() {
+        deadlines++;
+
+        if (state == State.HALF_OPEN || deadlines >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * Releases a granted permission without recording a result, e.g. if the
+     * call failed for reasons not related to the target's health.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && probing > 0) {
+            probing--;
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        failures = 0;
+        deadlines = 0;
+        opened.incrementAndGet();
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public long getOpened() {
+        return opened.get();
+    }
+}
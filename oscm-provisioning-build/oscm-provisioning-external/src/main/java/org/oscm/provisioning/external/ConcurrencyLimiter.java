@@ -0,0 +1,211 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive concurrency limit for the calls to a single Rudder target. The
+ * limit is learned with additive increase / multiplicative decrease: it grows
+ * by one per round of calls as long as the observed latency stays close to the
+ * lowest recently seen latency, and shrinks as soon as the latency rises above
+ * the tolerance or calls fail with connection errors. Calls beyond the limit
+ * wait for a permit. The lowest latency is tracked per operation, so slow
+ * installs are not judged against fast status calls.
+ */
+public class ConcurrencyLimiter {
+
+    public static final int DEFAULT_INITIAL_LIMIT = 4;
+    public static final int DEFAULT_MAX_LIMIT = 16;
+    public static final double DEFAULT_TOLERANCE = 2.0;
+
+    private static final int MIN_LIMIT = 1;
+    private static final double LATENCY_BACKOFF = 0.9;
+    private static final double ERROR_BACKOFF = 0.5;
+    private static final int BASELINE_WINDOW = 500;
+
+    private final int maxLimit;
+    private final double tolerance;
+
+    /**
+     * The lowest recently seen latency of an operation.
+     */
+    private static class Baseline {
+
+        private long value = Long.MAX_VALUE;
+        private long windowMin = Long.MAX_VALUE;
+        private int windowSamples;
+
+        private void update(long latency) {
+
+            windowMin = Math.min(windowMin, latency);
+            value = Math.min(value, latency);
+
+            // restart from the window minimum so the baseline can follow a
+            // permanently slower target
+            if (++windowSamples >= BASELINE_WINDOW) {
+                value = windowMin;
+                windowMin = Long.MAX_VALUE;
+                windowSamples = 0;
+            }
+        }
+    }
+
+    private final Map<String, Baseline> baselines = new HashMap<>();
+
+    private double limit;
+    private int inFlight;
+
+    public ConcurrencyLimiter() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_TOLERANCE);
+    }
+
+    public ConcurrencyLimiter(int initialLimit, int maxLimit,
+            double tolerance) {
+        this.maxLimit = Math.max(MIN_LIMIT, maxLimit);
+        this.limit = Math.max(MIN_LIMIT, Math.min(initialLimit, maxLimit));
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Waits until a permit is available and takes it. Every taken permit needs
+     * to be returned with {@link #onSuccess(String, long)},
+     * {@link #onFailure()} or {@link #onIgnored()}.
+     *
+     * @throws InterruptedException
+     *             if interrupted while waiting
+     */
+    public synchronized void acquire() throws InterruptedException {
+
+        while (inFlight >= (int) limit) {
+            wait();
+        }
+
+        inFlight++;
+    }
+
+    /**
+     * Takes a permit if one is available without waiting. A taken permit has
+     * to be returned like one of {@link #acquire()}.
+     *
+     * @return true if a permit was taken
+     */
+    public synchronized boolean tryAcquire() {
+
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+
+        inFlight++;
+
+        return true;
+    }
+
+    /**
+     * Waits at most the given time until a permit is available and takes it.
+     * A taken permit has to be returned like one of {@link #acquire()}.
+     *
+     * @param timeout
+     *            the maximum time to wait
+     * @param unit
+     *            the unit of the timeout
+     * @return true if a permit was taken, false if the time passed
+     * @throws InterruptedException
+     *             if interrupted while waiting
+     */
+    public synchronized boolean tryAcquire(long timeout, TimeUnit unit)
+            throws InterruptedException {
+
+        long end = System.nanoTime() + unit.toNanos(timeout);
+
+        while (inFlight >= (int) limit) {
+            long remaining = end - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+
+        inFlight++;
+
+        return true;
+    }
+
+    /**
+     * Returns a permit of a successful call and adapts the limit to its
+     * latency compared to the lowest latency of the same operation.
+     *
+     * @param operation
+     *            the name of the operation
+     * @param latency
+     *            the latency of the call in ns
+     */
+    public synchronized void onSuccess(String operation, long latency) {
+
+        Baseline baseline = baselines.computeIfAbsent(operation,
+                (o) -> new Baseline());
+        baseline.update(latency);
+
+        if (latency > baseline.value * tolerance) {
+            decrease(LATENCY_BACKOFF);
+        } else if (inFlight * 2 >= limit) {
+            // only grow if the current limit is actually used
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+
+        release();
+    }
+
+    /**
+     * Returns a permit of a call that failed with a connection error and
+     * reduces the limit.
+     */
+    public synchronized void onFailure() {
+        decrease(ERROR_BACKOFF);
+        release();
+    }
+
+    /**
+     * Returns a permit without adapting the limit.
+     */
+    public synchronized void onIgnored() {
+        release();
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Gets the lowest recently seen latency of the given operation.
+     *
+     * @param operation
+     *            the name of the operation
+     * @return the latency in ns or Long.MAX_VALUE if none was seen
+     */
+    public synchronized long getBaseline(String operation) {
+        Baseline baseline = baselines.get(operation);
+        return baseline != null ? baseline.value : Long.MAX_VALUE;
+    }
+
+    private void decrease(double factor) {
+        limit = Math.max(MIN_LIMIT, limit * factor);
+    }
+
+    private void release() {
+        inFlight--;
+        notifyAll();
+    }
+}
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.oscm.common.interfaces.enums.Messages;
+import org.oscm.common.interfaces.exceptions.ServiceException;
+import org.oscm.common.interfaces.exceptions.ValidationException;
+
+/**
+ * Single pass parser for the kubectl-style resource listing that Rudder
+ * returns with the release status. Extracts name, internal IP, external IP
+ * and ports of each service row without splitting or copying the listing.
+ * The listing is read as a stream of tokens, so both the single space
+ * separated layout and the column aligned layout with one row per line are
+ * supported. The columns are located by the header of the service section,
+ * so listings with additional columns (e.g. TYPE) are supported. Rows that
+ * end with a line break before all columns are read are skipped.
+ */
+public class ResourceParser {
+
+    private static final String SECTION_SERVICE = "v1/Service";
+    private static final String SECTION_NEXT = "==>";
+
+    private static final String HEADER_NAME = "NAME";
+    private static final String HEADER_INT_IP = "CLUSTER-IP";
+    private static final String HEADER_EXT_IP = "EXTERNAL-IP";
+    private static final String HEADER_PORTS = "PORT(S)";
+
+    private static final int DEFAULT_COLUMNS = 5;
+    private static final int DEFAULT_COLUMN_NAME = 0;
+    private static final int DEFAULT_COLUMN_INT_IP = 1;
+    private static final int DEFAULT_COLUMN_EXT_IP = 2;
+    private static final int DEFAULT_COLUMN_PORTS = 3;
+
+    private ResourceParser() {
+    }
+
+    /**
+     * Parses the services from the given resource listing. The value of each
+     * service has the format "internal-ip,external-ip(ports)".
+     *
+     * @param resources
+     *            the resource listing
+     * @return the services mapped by name
+     * @throws ServiceException
+     *             if the listing has no service section
+     */
+    public static Map<String, String> parseServices(CharSequence resources)
+            throws ServiceException {
+
+        Map<String, String> services = new HashMap<>();
+
+        int begin = indexOf(resources, SECTION_SERVICE, 0);
+
+        if (begin < 0) {
+            throw new ValidationException(Messages.ERROR_BAD_RESPONSE, null);
+        }
+
+        int end = indexOf(resources, SECTION_NEXT, begin);
+
+        if (end < 0) {
+            end = resources.length();
+        }
+
+        // skip the section title
+        int pos = skipWhitespace(resources,
+                tokenEnd(resources, begin, end), end);
+
+        // locate the columns by the header, which is the only upper case row
+        int colName = DEFAULT_COLUMN_NAME;
+        int colIntIp = DEFAULT_COLUMN_INT_IP;
+        int colExtIp = DEFAULT_COLUMN_EXT_IP;
+        int colPorts = DEFAULT_COLUMN_PORTS;
+        int columns = 0;
+
+        while (pos < end) {
+            int tokenEnd = tokenEnd(resources, pos, end);
+
+            if (!isHeader(resources, pos, tokenEnd)) {
+                break;
+            }
+
+            if (regionEquals(resources, pos, tokenEnd, HEADER_NAME)) {
+                colName = columns;
+            } else if (regionEquals(resources, pos, tokenEnd,
+                    HEADER_INT_IP)) {
+                colIntIp = columns;
+            } else if (regionEquals(resources, pos, tokenEnd,
+                    HEADER_EXT_IP)) {
+                colExtIp = columns;
+            } else if (regionEquals(resources, pos, tokenEnd, HEADER_PORTS)) {
+                colPorts = columns;
+            }
+
+            columns++;
+            pos = skipWhitespace(resources, tokenEnd, end);
+        }
+
+        if (columns == 0) {
+            columns = DEFAULT_COLUMNS;
+        }
+
+        if (Math.max(Math.max(colName, colIntIp),
+                Math.max(colExtIp, colPorts)) >= columns) {
+            return services;
+        }
+
+        // parse the service rows, each one the next tokens of all columns
+        int[] starts = new int[columns];
+        int[] ends = new int[columns];
+        int column = 0;
+
+        while (pos < end) {
+            char c = resources.charAt(pos);
+
+            if (c == '\n') {
+                // a row broken by a line is incomplete
+                column = 0;
+                pos++;
+                continue;
+            }
+
+            if (isSpace(c)) {
+                pos++;
+                continue;
+            }
+
+            int tokenEnd = tokenEnd(resources, pos, end);
+
+            starts[column] = pos;
+            ends[column] = tokenEnd;
+            column++;
+
+            if (column == columns) {
+                column = 0;
+
+                String name = new StringBuilder(
+                        ends[colName] - starts[colName])
+                                .append(resources, starts[colName],
+                                        ends[colName])
+                                .toString();
+
+                String value = new StringBuilder(
+                        ends[colIntIp] - starts[colIntIp] + ends[colExtIp]
+                                - starts[colExtIp] + ends[colPorts]
+                                - starts[colPorts] + 3)
+                                        .append(resources, starts[colIntIp],
+                                                ends[colIntIp])
+                                        .append(',')
+                                        .append(resources, starts[colExtIp],
+                                                ends[colExtIp])
+                                        .append('(')
+                                        .append(resources, starts[colPorts],
+                                                ends[colPorts])
+                                        .append(')').toString();
+
+                services.put(name, value);
+            }
+
+            pos = tokenEnd;
+        }
+
+        return services;
+    }
+
+    private static int indexOf(CharSequence seq, String str, int from) {
+
+        int last = seq.length() - str.length();
+
+        outer: for (int i = Math.max(0, from); i <= last; i++) {
+            for (int j = 0; j < str.length(); j++) {
+                if (seq.charAt(i + j) != str.charAt(j)) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+
+        return -1;
+    }
+
+    private static boolean regionEquals(CharSequence seq, int start, int end,
+            String str) {
+
+        if (end - start != str.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < str.length(); i++) {
+            if (seq.charAt(start + i) != str.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isHeader(CharSequence seq, int start, int end) {
+
+        if (start >= end) {
+            return false;
+        }
+
+        for (int i = start; i < end; i++) {
+            char c = seq.charAt(i);
+            if ((c < 'A' || c > 'Z') && c != '-' && c != '(' && c != ')') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+
+    private static int skipWhitespace(CharSequence seq, int pos, int end) {
+        while (pos < end
+                && (isSpace(seq.charAt(pos)) || seq.charAt(pos) == '\n')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int tokenEnd(CharSequence seq, int pos, int end) {
+        while (pos < end && !isSpace(seq.charAt(pos))
+                && seq.charAt(pos) != '\n') {
+            pos++;
+        }
+        return pos;
+    }
+}
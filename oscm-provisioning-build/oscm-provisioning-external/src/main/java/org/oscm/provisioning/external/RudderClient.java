@@ -8,21 +8,29 @@
 
 package org.oscm.provisioning.external;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response.Status;
 
-import org.oscm.common.interfaces.enums.Messages;
+import org.oscm.common.interfaces.exceptions.ConnectionException;
 import org.oscm.common.interfaces.exceptions.ServiceException;
-import org.oscm.common.interfaces.exceptions.ValidationException;
 import org.oscm.common.rest.RestClient;
 import org.oscm.provisioning.external.data.InstallReleaseRequest;
+import org.oscm.provisioning.external.data.ListReleasesResponse;
 import org.oscm.provisioning.external.data.ReleaseStatusResponse;
 import org.oscm.provisioning.external.data.UpdateReleaseRequest;
 import org.oscm.provisioning.interfaces.data.Release;
 import org.oscm.provisioning.interfaces.enums.Application;
+import org.oscm.provisioning.interfaces.enums.Messages;
+import org.oscm.provisioning.interfaces.metrics.LatencyHistogram;
+import org.oscm.provisioning.interfaces.metrics.Metrics;
 
 /**
  * @author miethaner
@@ -34,23 +42,122 @@ public class RudderClient {
     private static final String PATH_UNINSTALL = "/api/v%d/releases/%s";
     private static final String PATH_UPDATE = "/api/v%d/releases";
     private static final String PATH_STATUS = "/api/v%d/releases/%s/%s/status";
+    private static final String PATH_LIST = "/api/v%d/releases?limit=%d&offset=%s";
 
-    private static final String REGEX_SERVICE = "v1/Service";
-    private static final String REGEX_NEXT = "==>";
+    private static final Integer API_VERSION = Integer.valueOf(1);
 
-    private static final int SERVICE_COLUMNS = 5;
-    private static final int SERVICE_COLUMN_NAME = 0;
-    private static final int SERVICE_COLUMN_INT_IP = 1;
-    private static final int SERVICE_COLUMN_EXT_IP = 2;
-    private static final int SERVICE_COLUMN_PORTS = 3;
+    public static final int LIST_PAGE_SIZE = 1000;
 
-    private static final Integer API_VERSION = Integer.valueOf(1);
+    private static final Integer LIST_LIMIT = Integer.valueOf(LIST_PAGE_SIZE);
+    private static final int LIST_MAX_PAGES = 100;
+
+    private static final String ERROR_CIRCUIT_OPEN = "Rudder target %s is unavailable";
+    private static final String ERROR_INTERRUPTED = "Interrupted while waiting for Rudder target %s";
+
+    public static final String LATENCY = "provisioning_rudder_latency_seconds";
+    public static final String ERRORS = "provisioning_rudder_errors_total";
+
+    private enum Operation {
+        INSTALL, UNINSTALL, UPDATE, STATUS, LIST;
+
+        private final String label = name().toLowerCase(Locale.ROOT);
+    }
+
+    @FunctionalInterface
+    private interface Call<T> {
+        T call() throws ServiceException;
+    }
 
+    private String url;
     private RestClient client;
+    private CircuitBreaker breaker;
+    private ConcurrencyLimiter limiter;
+    private StatusHedger hedger;
+    private Map<Operation, LatencyHistogram> latencies;
 
     public RudderClient(String url) {
-        this.client = new RestClient(Application.RUDDER, url,
-                MediaType.APPLICATION_JSON_TYPE);
+        this(url, new CircuitBreaker(), new ConcurrencyLimiter());
+    }
+
+    public RudderClient(String url, CircuitBreaker breaker,
+            ConcurrencyLimiter limiter) {
+        this(url, breaker, limiter, new StatusHedger(url));
+    }
+
+    public RudderClient(String url, CircuitBreaker breaker,
+            ConcurrencyLimiter limiter, StatusHedger hedger) {
+        this.url = url;
+        this.breaker = breaker;
+        this.limiter = limiter;
+        this.hedger = hedger;
+
+        this.latencies = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, Metrics.getInstance().histogram(LATENCY,
+                    "target", url, "operation", operation.label));
+        }
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return breaker;
+    }
+
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return limiter;
+    }
+
+    public StatusHedger getStatusHedger() {
+        return hedger;
+    }
+
+    /**
+     * Releases the connections of the client. The framework client is closed
+     * if it holds resources of its own, otherwise its connections are left to
+     * the keep-alive timeout of the connector. A caller that still holds the
+     * client can keep using it, its next call opens a new framework client.
+     */
+    public void close() {
+
+        RestClient closed;
+        synchronized (this) {
+            closed = client;
+            client = null;
+        }
+
+        if (closed instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) closed).close();
+            } catch (Exception e) {
+                // the connections are dropped anyway
+            }
+        }
+    }
+
+    /**
+     * Gets the framework client and opens it if necessary.
+     */
+    synchronized RestClient client() {
+
+        if (client == null) {
+            client = new RestClient(Application.RUDDER, url,
+                    MediaType.APPLICATION_JSON_TYPE);
+        }
+
+        return client;
+    }
+
+    /**
+     * Checks whether calls to the target are currently rejected by the
+     * circuit breaker.
+     *
+     * @return true if the target is available
+     */
+    public boolean isAvailable() {
+        return !breaker.isOpen();
     }
 
     public void installRelease(Release release) throws ServiceException {
@@ -63,16 +170,17 @@ public class RudderClient {
         request.setVersion(release.getTemplate().getVersion());
         request.setValues(release.getParameters());
 
-        client.post(String.format(PATH_INSTALL, API_VERSION), request,
-                Object.class, Status.OK.getStatusCode());
+        invoke(Operation.INSTALL,
+                () -> client().post(String.format(PATH_INSTALL, API_VERSION),
+                        request, Object.class, Status.OK.getStatusCode()));
     }
 
     public void uninstallRelease(Release release) throws ServiceException {
 
-        client.delete(
+        invoke(Operation.UNINSTALL, () -> client().delete(
                 String.format(PATH_UNINSTALL, API_VERSION,
                         release.getInstance()),
-                Object.class, Status.OK.getStatusCode());
+                Object.class, Status.OK.getStatusCode()));
     }
 
     public void updateRelease(Release release) throws ServiceException {
@@ -84,73 +192,275 @@ public class RudderClient {
         request.setVersion(release.getTemplate().getVersion());
         request.setValues(release.getParameters());
 
-        client.put(String.format(PATH_UPDATE, API_VERSION), request,
-                Object.class, Status.OK.getStatusCode());
+        invoke(Operation.UPDATE,
+                () -> client().put(String.format(PATH_UPDATE, API_VERSION),
+                        request, Object.class, Status.OK.getStatusCode()));
     }
 
-    public void releaseStatus(Release release) throws ServiceException {
-
-        ReleaseStatusResponse response = client.get(
-                String.format(PATH_STATUS, API_VERSION, release.getInstance(),
-                        release.getTemplate().getVersion()),
+    /**
+     * Updates the status and services of the given release from Rudder. The
+     * release is left unchanged if Rudder does not answer within the
+     * deadline, it is polled again with the next tick.
+     *
+     * @param release
+     *            the release
+     * @return true if Rudder answered, false if the deadline passed
+     * @throws ServiceException
+     */
+    public boolean releaseStatus(Release release) throws ServiceException {
+
+        String path = String.format(PATH_STATUS, API_VERSION,
+                release.getInstance(), release.getTemplate().getVersion());
+
+        Call<ReleaseStatusResponse> call = () -> client().get(path,
                 ReleaseStatusResponse.class, Status.OK.getStatusCode());
 
-        switch (response.getInfo().getStatus().getCode().intValue()) {
+        ReleaseStatusResponse response;
+        try {
+            response = guard(Operation.STATUS, () -> hedger.call(
+                    () -> attempt(Operation.STATUS, call), limiter));
+        } catch (ConnectionException e) {
+            if (StatusHedger.isDeadline(e)) {
+                return false;
+            }
+            throw e;
+        }
+
+        applyStatus(release, response);
+
+        return true;
+    }
+
+    /**
+     * Updates the status and services of the given release from the given
+     * status response, either fetched from Rudder or pushed by a
+     * notification.
+     *
+     * @param release
+     *            the release
+     * @param response
+     *            the status of the release
+     * @throws ServiceException
+     *             if the resources of the status cannot be parsed
+     */
+    public static void applyStatus(Release release,
+            ReleaseStatusResponse response) throws ServiceException {
+
+        int code = response.getInfo().getStatus().getCode().intValue();
+        Release.Status status = toStatus(code);
+
+        if (status != null) {
+            release.setStatus(status);
+        }
+
+        StatusDigestCache cache = StatusDigestCache.getInstance();
+
+        if (status == Release.Status.DEPLOYED) {
+
+            // skip parsing if the response did not change since the last poll
+            long digest = StatusDigestCache.digest(code,
+                    response.getInfo().getStatus().getResources());
+
+            Map<String, String> services = cache.get(release.getInstance(),
+                    digest);
+
+            if (services == null) {
+                services = cache.put(release.getInstance(), digest,
+                        extractServices(response));
+            }
+
+            release.setServices(services);
+        } else {
+            cache.invalidate(release.getInstance());
+        }
+    }
+
+    /**
+     * Lists all releases known to the Rudder proxy together with their status
+     * code. Follows the paging of the listing up to a fixed number of pages.
+     *
+     * @return the status codes mapped by release name
+     * @throws ServiceException
+     */
+    public Map<String, Integer> listReleases() throws ServiceException {
+
+        Map<String, Integer> codes = new HashMap<>();
+
+        String offset = "";
+        for (int page = 0; page < LIST_MAX_PAGES; page++) {
+
+            String path = String.format(PATH_LIST, API_VERSION, LIST_LIMIT,
+                    encode(offset));
+
+            // each page is bounded by the status deadline
+            ListReleasesResponse response = guard(Operation.LIST,
+                    () -> hedger.bounded(() -> attempt(Operation.LIST,
+                            () -> client().get(path, ListReleasesResponse.class,
+                                    Status.OK.getStatusCode())),
+                            limiter));
+
+            if (response == null || response.getReleases() == null) {
+                break;
+            }
+
+            int before = codes.size();
+
+            for (ListReleasesResponse.Item item : response.getReleases()) {
+                if (item.getName() != null && item.getInfo() != null
+                        && item.getInfo().getStatus() != null
+                        && item.getInfo().getStatus().getCode() != null) {
+
+                    codes.put(item.getName(),
+                            item.getInfo().getStatus().getCode());
+                }
+            }
+
+            String next = response.getNext();
+
+            // stop if the proxy does not page or repeats the same page
+            if (next == null || next.isEmpty() || next.equals(offset)
+                    || codes.size() == before) {
+                break;
+            }
+
+            offset = next;
+        }
+
+        return codes;
+    }
+
+    /**
+     * Maps a Rudder release status code to the status of the release.
+     *
+     * @param code
+     *            the status code
+     * @return the release status or null if the code is unknown
+     */
+    public static Release.Status toStatus(int code) {
+
+        switch (code) {
         case ReleaseStatusResponse.UNKNOWN:
-            release.setStatus(Release.Status.PENDING);
-            break;
+            return Release.Status.PENDING;
         case ReleaseStatusResponse.SUPERSEDED:
         case ReleaseStatusResponse.FAILED:
-            release.setStatus(Release.Status.FAILED);
-            break;
+            return Release.Status.FAILED;
         case ReleaseStatusResponse.DELETED:
-            release.setStatus(Release.Status.DELETED);
-            break;
+            return Release.Status.DELETED;
         case ReleaseStatusResponse.DEPLOYED:
-            release.setStatus(Release.Status.DEPLOYED);
-            release.setServices(extractServices(response));
-            break;
+            return Release.Status.DEPLOYED;
+        default:
+            return null;
         }
     }
 
-    private Map<String, String> extractServices(ReleaseStatusResponse response)
-            throws ServiceException {
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-        Map<String, String> services = new HashMap<>();
+    private static Map<String, String> extractServices(
+            ReleaseStatusResponse response) throws ServiceException {
 
         if (response != null && response.getInfo() != null
                 && response.getInfo().getStatus() != null
                 && response.getInfo().getStatus().getResources() != null
                 && !response.getInfo().getStatus().getResources().isEmpty()) {
 
-            String resources = response.getInfo().getStatus().getResources();
+            return ResourceParser.parseServices(
+                    response.getInfo().getStatus().getResources());
+        }
 
-            int begin = resources.indexOf(REGEX_SERVICE);
-            int end = resources.indexOf(REGEX_NEXT, begin);
+        return new HashMap<>();
+    }
 
-            if (begin < 0) {
-                throw new ValidationException(Messages.ERROR_BAD_RESPONSE,
-                        null);
+    private <T> T invoke(Operation operation, Call<T> call)
+            throws ServiceException {
+        return guard(operation, () -> {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ConnectionException(Messages.ERROR, e,
+                        String.format(ERROR_INTERRUPTED, url));
             }
 
-            if (end < 0) {
-                end = resources.length() - 1;
+            return attempt(operation, call);
+        });
+    }
+
+    /**
+     * Invokes the given call behind the circuit breaker. The call takes a
+     * permit of the concurrency limiter for each of its attempts, which return
+     * it and may outlive the call if it is abandoned.
+     */
+    private <T> T guard(Operation operation, Call<T> call)
+            throws ServiceException {
+
+        if (!breaker.tryAcquire()) {
+            ConnectionException e = new ConnectionException(Messages.ERROR,
+                    String.format(ERROR_CIRCUIT_OPEN, url));
+            countError(operation, e);
+            throw e;
+        }
+
+        try {
+            T result = call.call();
+            breaker.onSuccess();
+
+            return result;
+        } catch (ConnectionException e) {
+            countError(operation, e);
+            // a single missed deadline says little about the target
+            if (StatusHedger.isTimeout(e)) {
+                breaker.onDeadline();
+            } else if (StatusHedger.isDeadline(e)
+                    || e.getCause() instanceof InterruptedException) {
+                breaker.onIgnored();
+            } else {
+                breaker.onFailure();
             }
+            throw e;
+        } catch (ServiceException | RuntimeException e) {
+            countError(operation, e);
+            breaker.onIgnored();
+            throw e;
+        }
+    }
 
-            String[] words = resources.substring(begin, end).split(" ");
+    /**
+     * Runs one attempt of the given call, records its latency and returns its
+     * permit to the concurrency limiter.
+     */
+    private <T> T attempt(Operation operation, Call<T> call)
+            throws ServiceException {
 
-            for (int i = SERVICE_COLUMNS
-                    + 1; i < words.length; i += SERVICE_COLUMNS) {
+        long start = System.nanoTime();
 
-                String intIp = words[i + SERVICE_COLUMN_INT_IP];
-                String extIp = words[i + SERVICE_COLUMN_EXT_IP];
-                String ports = words[i + SERVICE_COLUMN_PORTS];
+        try {
+            T result = call.call();
 
-                services.put(words[i + SERVICE_COLUMN_NAME],
-                        intIp + "," + extIp + "(" + ports + ")");
-            }
+            long latency = System.nanoTime() - start;
+            latencies.get(operation).recordNanos(latency);
+            limiter.onSuccess(operation.label, latency);
+
+            return result;
+        } catch (ConnectionException e) {
+            latencies.get(operation).recordNanos(System.nanoTime() - start);
+            limiter.onFailure();
+            throw e;
+        } catch (ServiceException | RuntimeException e) {
+            latencies.get(operation).recordNanos(System.nanoTime() - start);
+            limiter.onIgnored();
+            throw e;
         }
+    }
 
-        return services;
+    private void countError(Operation operation, Exception e) {
+        Metrics.getInstance().counter(ERRORS, "target", url, "operation",
+                operation.label, "exception", e.getClass().getSimpleName())
+                .increment();
     }
 }
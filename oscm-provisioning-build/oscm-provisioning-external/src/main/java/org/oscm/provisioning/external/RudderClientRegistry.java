@@ -0,0 +1,269 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe registry of shared {@link RudderClient} instances, one per
+ * target URL. Reusing the client keeps the underlying HTTP connections alive
+ * between calls, so repeated calls against the same Rudder proxy do not pay
+ * for a new TCP (and TLS) handshake. The number of concurrent calls, and so of
+ * connections in use, per target is capped by the concurrency limit of the
+ * target. Clients of targets that were not used for longer than the idle
+ * timeout are closed and evicted, the circuit breaker and concurrency limit
+ * of the target are kept for the next client. A caller that still holds an
+ * evicted client can keep using it, see {@link RudderClient#close()}.
+ */
+public class RudderClientRegistry {
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 20;
+    public static final long DEFAULT_IDLE_TIMEOUT = 600000; // ms
+
+    private static final long MAX_SWEEP_INTERVAL = 60000; // ms
+
+    private static final RudderClientRegistry registry = new RudderClientRegistry();
+
+    /**
+     * Gets the singleton instance of the registry.
+     *
+     * @return the registry
+     */
+    public static RudderClientRegistry getInstance() {
+        return registry;
+    }
+
+    private static class Entry {
+
+        private final RudderClient client;
+        private volatile long lastUsed;
+
+        private Entry(RudderClient client) {
+            this.client = client;
+        }
+    }
+
+    /**
+     * The isolation state of a target, which outlives evicted clients.
+     */
+    private static class Isolation {
+
+        private final CircuitBreaker breaker;
+        private final ConcurrencyLimiter limiter;
+        private final StatusHedger hedger;
+
+        private Isolation(CircuitBreaker breaker, ConcurrencyLimiter limiter,
+                StatusHedger hedger) {
+            this.breaker = breaker;
+            this.limiter = limiter;
+            this.hedger = hedger;
+        }
+    }
+
+    private final ConcurrentMap<String, Entry> clients = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Isolation> isolations = new ConcurrentHashMap<>();
+
+    private volatile int maxConnections = DEFAULT_MAX_CONNECTIONS;
+    private volatile long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+    private volatile int initialConcurrency = ConcurrencyLimiter.DEFAULT_INITIAL_LIMIT;
+    private volatile int maxConcurrency = ConcurrencyLimiter.DEFAULT_MAX_LIMIT;
+    private volatile double latencyTolerance = ConcurrencyLimiter.DEFAULT_TOLERANCE;
+    private volatile int failureThreshold = CircuitBreaker.DEFAULT_FAILURE_THRESHOLD;
+    private volatile long openTimeout = CircuitBreaker.DEFAULT_OPEN_TIMEOUT;
+    private volatile int probes = CircuitBreaker.DEFAULT_PROBES;
+    private volatile long statusDeadline = StatusHedger.DEFAULT_DEADLINE;
+    private volatile boolean hedging = false;
+    private volatile double hedgeQuantile = StatusHedger.DEFAULT_QUANTILE;
+    private volatile long hedgeMinDelay = StatusHedger.DEFAULT_MIN_DELAY;
+    private volatile double hedgeBudget = StatusHedger.DEFAULT_BUDGET;
+    private volatile long lastSweep = System.currentTimeMillis();
+
+    private RudderClientRegistry() {
+    }
+
+    /**
+     * Configures the connection handling of the registry. The connection
+     * limit caps the concurrency limit of each target, so no more calls than
+     * connections are sent to a target at a time. The connector of the
+     * framework client does not expose its pool, so the cap is enforced in
+     * front of it. Applies to clients created afterwards.
+     *
+     * @param maxConnections
+     *            the maximum number of concurrent connections per target
+     * @param idleTimeout
+     *            the time in ms after which unused targets are evicted
+     */
+    public void init(int maxConnections, long idleTimeout) {
+        this.maxConnections = maxConnections;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Configures the isolation of the targets. Each target gets its own
+     * adaptive concurrency limit and its own circuit breaker. Applies to
+     * clients created afterwards.
+     *
+     * @param initialConcurrency
+     *            the initial number of concurrent calls per target
+     * @param maxConcurrency
+     *            the maximum number of concurrent calls per target
+     * @param latencyTolerance
+     *            the factor by which the latency may exceed the lowest seen
+     *            latency before the concurrency is reduced
+     * @param failureThreshold
+     *            the number of consecutive failures that open the circuit
+     * @param openTimeout
+     *            the time in ms the circuit stays open before probing
+     * @param probes
+     *            the number of concurrent probe calls while half open
+     */
+    public void initIsolation(int initialConcurrency, int maxConcurrency,
+            double latencyTolerance, int failureThreshold, long openTimeout,
+            int probes) {
+        this.initialConcurrency = initialConcurrency;
+        this.maxConcurrency = maxConcurrency;
+        this.latencyTolerance = latencyTolerance;
+        this.failureThreshold = failureThreshold;
+        this.openTimeout = openTimeout;
+        this.probes = probes;
+    }
+
+    /**
+     * Configures the deadline and hedging of the status calls. Applies to
+     * clients created afterwards.
+     *
+     * @param statusDeadline
+     *            the maximum time in ms to wait for a status call, none if
+     *            not positive
+     * @param hedging
+     *            true to send a second status call if the first is slow
+     * @param hedgeQuantile
+     *            the latency quantile after which the second call is sent
+     * @param hedgeMinDelay
+     *            the minimum time in ms before the second call is sent
+     * @param hedgeBudget
+     *            the maximum share of status calls that are hedged
+     */
+    public void initDeadlines(long statusDeadline, boolean hedging,
+            double hedgeQuantile, long hedgeMinDelay, double hedgeBudget) {
+        this.statusDeadline = statusDeadline;
+        this.hedging = hedging;
+        this.hedgeQuantile = hedgeQuantile;
+        this.hedgeMinDelay = hedgeMinDelay;
+        this.hedgeBudget = hedgeBudget;
+    }
+
+    /**
+     * Gets the shared client for the given target URL and creates it if
+     * necessary.
+     *
+     * @param target
+     *            the URL of the Rudder proxy
+     * @return the client
+     */
+    public RudderClient getClient(String target) {
+
+        long now = System.currentTimeMillis();
+
+        if (now - lastSweep > Math.min(idleTimeout, MAX_SWEEP_INTERVAL)) {
+            lastSweep = now;
+            evictIdle(now);
+        }
+
+        // marks the entry as used before the sweep can see it idle
+        Entry entry = clients.compute(target, (t, e) -> {
+            if (e == null) {
+                Isolation isolation = isolations.computeIfAbsent(t,
+                        this::createIsolation);
+
+                e = new Entry(new RudderClient(t, isolation.breaker,
+                        isolation.limiter, isolation.hedger));
+            }
+            e.lastUsed = now;
+
+            return e;
+        });
+
+        return entry.client;
+    }
+
+    private Isolation createIsolation(String target) {
+        return new Isolation(
+                new CircuitBreaker(failureThreshold, openTimeout, probes),
+                new ConcurrencyLimiter(initialConcurrency,
+                        Math.min(maxConcurrency, maxConnections),
+                        latencyTolerance),
+                new StatusHedger(target, statusDeadline, hedging,
+                        hedgeQuantile, hedgeMinDelay, hedgeBudget));
+    }
+
+    /**
+     * Gets the clients of all currently known targets.
+     *
+     * @return the clients mapped by target URL
+     */
+    public Map<String, RudderClient> getClients() {
+
+        Map<String, RudderClient> result = new HashMap<>();
+        clients.forEach((t, e) -> result.put(t, e.client));
+
+        return result;
+    }
+
+    /**
+     * Gets the number of targets that currently have a client.
+     *
+     * @return the number of targets
+     */
+    public int size() {
+        return clients.size();
+    }
+
+    /**
+     * Closes and removes all clients together with the state of their
+     * targets.
+     */
+    public void clear() {
+        clients.values().forEach((e) -> e.client.close());
+        clients.clear();
+        isolations.clear();
+    }
+
+    private void evictIdle(long now) {
+
+        List<RudderClient> evicted = new ArrayList<>();
+
+        // rechecks under the lock of the key, so a concurrent getClient
+        // either keeps the entry or gets a new one
+        for (String target : clients.keySet()) {
+            clients.computeIfPresent(target, (t, e) -> {
+                if (isIdle(e, now)) {
+                    evicted.add(e.client);
+                    return null;
+                }
+
+                return e;
+            });
+        }
+
+        evicted.forEach(RudderClient::close);
+    }
+
+    private boolean isIdle(Entry entry, long now) {
+
+        // a client with calls in flight is still in use
+        return now - entry.lastUsed > idleTimeout
+                && entry.client.getConcurrencyLimiter().getInFlight() == 0;
+    }
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of the last status response per release instance. Stores a
+ * digest of the status code and the resource listing together with the
+ * services parsed from it, so the resource listing of an unchanged status
+ * response does not need to be parsed into services again. The response
+ * itself is still deserialized by the framework client, which does not expose
+ * the raw body. The least recently used instances are evicted first.
+ */
+public class StatusDigestCache {
+
+    public static final int DEFAULT_MAX_SIZE = 100000;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final StatusDigestCache cache = new StatusDigestCache();
+
+    /**
+     * Gets the singleton instance of the cache.
+     *
+     * @return the cache
+     */
+    public static StatusDigestCache getInstance() {
+        return cache;
+    }
+
+    private static class Digest {
+
+        private final long digest;
+        private final Map<String, String> services;
+
+        private Digest(long digest, Map<String, String> services) {
+            this.digest = digest;
+            this.services = services;
+        }
+    }
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    private final Map<String, Digest> entries = new LinkedHashMap<String, Digest>(
+            16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Digest> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private StatusDigestCache() {
+    }
+
+    /**
+     * Configures the cache.
+     *
+     * @param maxSize
+     *            the maximum number of cached instances
+     */
+    public void init(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Computes the digest of a status response.
+     *
+     * @param code
+     *            the status code
+     * @param resources
+     *            the resource listing, may be null
+     * @return the digest
+     */
+    public static long digest(int code, CharSequence resources) {
+
+        long hash = FNV_OFFSET;
+
+        hash = (hash ^ code) * FNV_PRIME;
+
+        if (resources != null) {
+            for (int i = 0; i < resources.length(); i++) {
+                hash = (hash ^ resources.charAt(i)) * FNV_PRIME;
+            }
+        }
+
+        return hash;
+    }
+
+    /**
+     * Gets the services cached for the given instance if its last response
+     * had the given digest.
+     *
+     * @param instance
+     *            the release instance
+     * @param digest
+     *            the digest of the current response
+     * @return the unmodifiable services or null if not cached or changed
+     */
+    public Map<String, String> get(String instance, long digest) {
+
+        Digest entry;
+        synchronized (entries) {
+            entry = entries.get(instance);
+        }
+
+        if (entry != null && entry.digest == digest) {
+            hits.incrementAndGet();
+            return entry.services;
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Caches the services parsed from the response with the given digest.
+     *
+     * @param instance
+     *            the release instance
+     * @param digest
+     *            the digest of the response
+     * @param services
+     *            the parsed services
+     * @return the unmodifiable services
+     */
+    public Map<String, String> put(String instance, long digest,
+            Map<String, String> services) {
+
+        Map<String, String> unmodifiable = Collections
+                .unmodifiableMap(services);
+
+        synchronized (entries) {
+            entries.put(instance, new Digest(digest, unmodifiable));
+        }
+
+        return unmodifiable;
+    }
+
+    /**
+     * Removes the given instance from the cache.
+     *
+     * @param instance
+     *            the release instance
+     */
+    public void invalidate(String instance) {
+        synchronized (entries) {
+            entries.remove(instance);
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
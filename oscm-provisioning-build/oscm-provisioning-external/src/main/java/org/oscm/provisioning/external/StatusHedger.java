@@ -0,0 +1,420 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.oscm.common.interfaces.exceptions.ConnectionException;
+import org.oscm.common.interfaces.exceptions.ServiceException;
+import org.oscm.provisioning.interfaces.enums.Messages;
+import org.oscm.provisioning.interfaces.metrics.Metrics;
+
+/**
+ * Deadline and hedging for the idempotent status calls of one target. A call
+ * runs on a shared pool and the caller waits at most until the deadline, so a
+ * hanging call cannot hold up a polling tick. If the call has not answered
+ * once the given latency quantile of recent calls has passed, an identical
+ * second call is sent and the first successful answer is taken. Hedges are
+ * limited to a share of the calls, so a slow target does not get twice the
+ * load. Each sent call holds its own permit of the concurrency limiter of the
+ * target until it has actually finished, also if it was abandoned, and the
+ * wait for the permit counts against the deadline. A call that misses its
+ * deadline is abandoned and fails with a {@link ConnectionException} caused
+ * by a {@link TimeoutException}, a call that finds no free thread fails
+ * right away with one caused by a {@link RejectedExecutionException}. Other
+ * calls, e.g. listings, can be run within the deadline without hedging.
+ */
+public class StatusHedger {
+
+    public static final long DEFAULT_DEADLINE = 0; // ms, none
+    public static final double DEFAULT_QUANTILE = 0.95;
+    public static final long DEFAULT_MIN_DELAY = 50; // ms
+    public static final double DEFAULT_BUDGET = 0.1;
+
+    public static final String HEDGES = "provisioning_rudder_hedges_total";
+    public static final String HEDGE_WINS = "provisioning_rudder_hedge_wins_total";
+    public static final String DEADLINES = "provisioning_rudder_deadlines_total";
+    public static final String REJECTED = "provisioning_rudder_status_rejected_total";
+
+    private static final int MIN_SAMPLES = 100;
+    private static final int WINDOW = 1000;
+    private static final int UPDATE_INTERVAL = 100;
+    private static final int MAX_THREADS = 64;
+    private static final long KEEP_ALIVE = 60; // s
+
+    private static final String ERROR_DEADLINE = "Status call to Rudder target %s exceeded its deadline of %d ms";
+    private static final String ERROR_REJECTED = "No thread left for a status call to Rudder target %s";
+
+    // shared by all targets, bounded so abandoned calls cannot pile up
+    private static final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            0, MAX_THREADS, KEEP_ALIVE, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), (r) -> {
+                Thread thread = new Thread(r, "rudder-status");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws ServiceException;
+    }
+
+    /**
+     * The result of the sent calls, failed once all of them failed.
+     */
+    private static class Attempts<T> {
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicInteger running = new AtomicInteger(2);
+        private final AtomicReference<Exception> error = new AtomicReference<>();
+        private final boolean sampled;
+
+        private Attempts(boolean sampled) {
+            this.sampled = sampled;
+        }
+
+        private void fail(Exception e) {
+            error.compareAndSet(null, e);
+            release();
+        }
+
+        private void release() {
+            if (running.decrementAndGet() == 0) {
+                result.completeExceptionally(error.get());
+            }
+        }
+    }
+
+    /**
+     * The latencies of the most recent successful calls. The hedge delay is
+     * recomputed from them every few calls, so it follows the target instead
+     * of its whole history.
+     */
+    private static class Window {
+
+        private final long[] samples = new long[WINDOW];
+        private int next;
+        private int count;
+        private int recorded;
+        private volatile long threshold = -1;
+
+        private synchronized void record(long latency, double quantile) {
+
+            samples[next] = latency;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+
+            if (++recorded >= UPDATE_INTERVAL && count >= MIN_SAMPLES) {
+                recorded = 0;
+
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+
+                int index = (int) Math.ceil(quantile * count) - 1;
+                threshold = sorted[Math.max(0, Math.min(count - 1, index))];
+            }
+        }
+    }
+
+    private final String target;
+    private final long deadline;
+    private final boolean hedging;
+    private final double quantile;
+    private final long minDelay;
+    private final double budget;
+
+    private final LongAdder calls = new LongAdder();
+    private final Window window = new Window();
+    private final LongAdder hedges;
+    private final LongAdder wins;
+    private final LongAdder deadlines;
+    private final LongAdder rejected;
+
+    /**
+     * Creates a hedger without deadline and hedging.
+     *
+     * @param target
+     *            the URL of the target
+     */
+    public StatusHedger(String target) {
+        this(target, DEFAULT_DEADLINE, false, DEFAULT_QUANTILE,
+                DEFAULT_MIN_DELAY, DEFAULT_BUDGET);
+    }
+
+    /**
+     * Creates a hedger.
+     *
+     * @param target
+     *            the URL of the target
+     * @param deadline
+     *            the maximum time in ms to wait for a call, none if not
+     *            positive
+     * @param hedging
+     *            true to send hedged calls
+     * @param quantile
+     *            the latency quantile of earlier calls after which a hedged
+     *            call is sent
+     * @param minDelay
+     *            the minimum time in ms before a hedged call is sent
+     * @param budget
+     *            the maximum share of calls that are hedged
+     */
+    public StatusHedger(String target, long deadline, boolean hedging,
+            double quantile, long minDelay, double budget) {
+        this.target = target;
+        this.deadline = deadline;
+        this.hedging = hedging;
+        this.quantile = quantile;
+        this.minDelay = minDelay;
+        this.budget = budget;
+
+        Metrics metrics = Metrics.getInstance();
+        this.hedges = metrics.counter(HEDGES, "target", target);
+        this.wins = metrics.counter(HEDGE_WINS, "target", target);
+        this.deadlines = metrics.counter(DEADLINES, "target", target);
+        this.rejected = metrics.counter(REJECTED, "target", target);
+    }
+
+    public boolean isEnabled() {
+        return deadline > 0 || hedging;
+    }
+
+    /**
+     * Runs the given idempotent call within the deadline, hedged if it is
+     * slower than usual. Each sent call takes a permit of the given limiter,
+     * the first one waits for it at most until the deadline, a hedged one is
+     * only sent if a permit is free. Each run of the call has to return its
+     * permit, a call that is not run anymore returns it unused.
+     *
+     * @param call
+     *            the call, which returns its permit
+     * @param limiter
+     *            the concurrency limiter of the target
+     * @return the first successful result
+     * @throws ServiceException
+     *             if all sent calls failed, the deadline passed or no thread
+     *             was free
+     */
+    public <T> T call(Call<T> call, ConcurrencyLimiter limiter)
+            throws ServiceException {
+        return run(call, limiter, true);
+    }
+
+    /**
+     * Runs the given call within the deadline without hedging it. Takes and
+     * returns a permit of the given limiter like
+     * {@link #call(Call, ConcurrencyLimiter)}.
+     *
+     * @param call
+     *            the call, which returns its permit
+     * @param limiter
+     *            the concurrency limiter of the target
+     * @return the result
+     * @throws ServiceException
+     *             if the call failed, the deadline passed or no thread was
+     *             free
+     */
+    public <T> T bounded(Call<T> call, ConcurrencyLimiter limiter)
+            throws ServiceException {
+        return run(call, limiter, false);
+    }
+
+    private <T> T run(Call<T> call, ConcurrencyLimiter limiter,
+            boolean hedged) throws ServiceException {
+
+        long timeout = TimeUnit.MILLISECONDS.toNanos(deadline);
+        long end = System.nanoTime() + timeout;
+
+        try {
+            if (deadline <= 0) {
+                limiter.acquire();
+            } else if (!limiter.tryAcquire(timeout, TimeUnit.NANOSECONDS)) {
+                // the permits are held by calls that did not finish yet
+                deadlines.increment();
+                throw new ConnectionException(Messages.ERROR,
+                        new TimeoutException(), String.format(ERROR_DEADLINE,
+                                target, Long.valueOf(deadline)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectionException(Messages.ERROR, e,
+                    String.format(ERROR_DEADLINE, target,
+                            Long.valueOf(deadline)));
+        }
+
+        if (deadline <= 0 && !(hedged && hedging)) {
+            return call.call();
+        }
+
+        if (hedged) {
+            calls.increment();
+        }
+
+        Attempts<T> attempts = new Attempts<>(hedged);
+        CompletableFuture<T> result = attempts.result;
+
+        if (!send(call, limiter, attempts, false)) {
+            // no thread left, the tick polls again instead of waiting
+            limiter.onIgnored();
+            rejected.increment();
+            throw new ConnectionException(Messages.ERROR,
+                    new RejectedExecutionException(),
+                    String.format(ERROR_REJECTED, target));
+        }
+
+        try {
+            long delay = hedged ? hedgeDelay() : -1;
+
+            if (delay >= 0
+                    && (deadline <= 0 || delay < end - System.nanoTime())) {
+                try {
+                    return result.get(delay, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (hasBudget() && limiter.tryAcquire()) {
+                        if (send(call, limiter, attempts, true)) {
+                            hedges.increment();
+                        } else {
+                            limiter.onIgnored();
+                            attempts.release();
+                        }
+                    } else {
+                        attempts.release();
+                    }
+                }
+            } else {
+                attempts.release();
+            }
+
+            if (deadline <= 0) {
+                return result.get();
+            }
+
+            return result.get(end - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+        } catch (TimeoutException e) {
+            deadlines.increment();
+            result.cancel(false);
+            throw new ConnectionException(Messages.ERROR, e,
+                    String.format(ERROR_DEADLINE, target,
+                            Long.valueOf(deadline)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(false);
+            throw new ConnectionException(Messages.ERROR, e,
+                    String.format(ERROR_DEADLINE, target,
+                            Long.valueOf(deadline)));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ServiceException) {
+                throw (ServiceException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    /**
+     * Checks whether the given exception is caused by a missed deadline,
+     * including the wait for a permit.
+     *
+     * @param e
+     *            the exception of a call
+     * @return true if the deadline passed
+     */
+    public static boolean isTimeout(ServiceException e) {
+        return e instanceof ConnectionException
+                && e.getCause() instanceof TimeoutException;
+    }
+
+    /**
+     * Checks whether the given exception is caused by a missed deadline or a
+     * call that could not be sent, so the target did not answer in time.
+     *
+     * @param e
+     *            the exception of a call
+     * @return true if the call was abandoned
+     */
+    public static boolean isDeadline(ServiceException e) {
+        return e instanceof ConnectionException
+                && (e.getCause() instanceof TimeoutException
+                        || e.getCause() instanceof RejectedExecutionException);
+    }
+
+    /**
+     * Gets the time in ns after which a hedged call is sent.
+     *
+     * @return the delay or -1 for no hedged call
+     */
+    private long hedgeDelay() {
+
+        long threshold = window.threshold;
+
+        if (!hedging || threshold < 0) {
+            return -1;
+        }
+
+        return Math.max(TimeUnit.MILLISECONDS.toNanos(minDelay), threshold);
+    }
+
+    private boolean hasBudget() {
+        return hedges.sum() < calls.sum() * budget;
+    }
+
+    private <T> boolean send(Call<T> call, ConcurrencyLimiter limiter,
+            Attempts<T> attempts, boolean hedge) {
+
+        try {
+            executor.execute(() -> {
+                // answered or abandoned before this call started
+                if (attempts.result.isDone()) {
+                    limiter.onIgnored();
+                    return;
+                }
+
+                long start = System.nanoTime();
+
+                try {
+                    T value = call.call();
+                    if (attempts.sampled) {
+                        window.record(System.nanoTime() - start, quantile);
+                    }
+
+                    if (attempts.result.complete(value) && hedge) {
+                        wins.increment();
+                    }
+                } catch (ServiceException | RuntimeException e) {
+                    attempts.fail(e);
+                }
+            });
+
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+}
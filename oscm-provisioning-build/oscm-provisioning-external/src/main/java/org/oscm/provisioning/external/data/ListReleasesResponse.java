@@ -0,0 +1,122 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external.data;
+
+import java.util.List;
+
+import org.oscm.provisioning.external.data.ReleaseStatusResponse.Info;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Response of the Rudder release listing. Only the fields needed to read the
+ * status of each release are mapped.
+ */
+public class ListReleasesResponse {
+
+    public static final String FIELD_COUNT = "count";
+    public static final String FIELD_NEXT = "next";
+    public static final String FIELD_TOTAL = "total";
+    public static final String FIELD_RELEASES = "releases";
+    public static final String FIELD_NAME = "name";
+    public static final String FIELD_NAMESPACE = "namespace";
+    public static final String FIELD_INFO = "info";
+    public static final String FIELD_VERSION = "version";
+
+    public static class Item {
+
+        @SerializedName(FIELD_NAME)
+        private String name;
+
+        @SerializedName(FIELD_NAMESPACE)
+        private String namespace;
+
+        @SerializedName(FIELD_INFO)
+        private Info info;
+
+        @SerializedName(FIELD_VERSION)
+        private Integer version;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getNamespace() {
+            return namespace;
+        }
+
+        public void setNamespace(String namespace) {
+            this.namespace = namespace;
+        }
+
+        public Info getInfo() {
+            return info;
+        }
+
+        public void setInfo(Info info) {
+            this.info = info;
+        }
+
+        public Integer getVersion() {
+            return version;
+        }
+
+        public void setVersion(Integer version) {
+            this.version = version;
+        }
+    }
+
+    @SerializedName(FIELD_COUNT)
+    private Long count;
+
+    @SerializedName(FIELD_NEXT)
+    private String next;
+
+    @SerializedName(FIELD_TOTAL)
+    private Long total;
+
+    @SerializedName(FIELD_RELEASES)
+    private List<Item> releases;
+
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public List<Item> getReleases() {
+        return releases;
+    }
+
+    public void setReleases(List<Item> releases) {
+        this.releases = releases;
+    }
+}
@@ -19,6 +19,8 @@ public class ReleaseStatusResponse {
     public static final String FIELD_NAME = "name";
     public static final String FIELD_NAMESPACE = "namespace";
     public static final String FIELD_INFO = "info";
+    public static final String FIELD_VERSION = "version";
+    public static final String FIELD_CHART_VERSION = "chart_version";
     public static final String FIELD_STATUS = "status";
     public static final String FIELD_FIRST_DEPLOYED = "first_deployed";
     public static final String FIELD_LAST_DEPLOYED = "last_deployed";
@@ -191,6 +193,13 @@ public class ReleaseStatusResponse {
     @SerializedName(FIELD_INFO)
     private Info info;
 
+    // the revision and chart version are only sent with notifications
+    @SerializedName(FIELD_VERSION)
+    private Integer version;
+
+    @SerializedName(FIELD_CHART_VERSION)
+    private String chartVersion;
+
     public String getName() {
         return name;
     }
@@ -214,4 +223,20 @@ public class ReleaseStatusResponse {
     public void setInfo(Info info) {
         this.info = info;
     }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
+    public String getChartVersion() {
+        return chartVersion;
+    }
+
+    public void setChartVersion(String chartVersion) {
+        this.chartVersion = chartVersion;
+    }
 }
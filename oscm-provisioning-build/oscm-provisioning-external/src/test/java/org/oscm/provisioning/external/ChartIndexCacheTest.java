@@ -0,0 +1,166 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.oscm.common.interfaces.exceptions.ValidationException;
+import org.oscm.provisioning.interfaces.data.Template;
+
+public class ChartIndexCacheTest {
+
+    private static final String INDEX = "apiVersion: v1\n" //
+            + "entries:\n" //
+            + "  oscm-app:\n" //
+            + "  - name: oscm-app\n" //
+            + "    version: 1.0.0\n" //
+            + "%s" //
+            + "generated: 2026-10-18T00:00:00Z\n";
+
+    private static final String PUBLISHED = "  - name: oscm-app\n" //
+            + "    version: 1.1.0\n";
+
+    private static final long RELOAD_AGE = 200;
+    private static final long AWAIT = 5000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File index;
+    private String repository;
+    private ChartIndexCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        index = new File(folder.getRoot(), "index.yaml");
+        write("");
+        repository = folder.getRoot().toURI().toString();
+
+        cache = new ChartIndexCache(RELOAD_AGE);
+        cache.init(true, ChartIndexCache.DEFAULT_TTL,
+                ChartIndexCache.DEFAULT_MAX_SIZE,
+                ChartIndexCache.DEFAULT_REFRESH_HITS,
+                ChartIndexCache.DEFAULT_TIMEOUT);
+    }
+
+    @After
+    public void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    public void testUncachedRepositoryNotValidated() throws Exception {
+        // the index is loaded in the background, nothing is rejected yet
+        cache.validate(template("oscm-app", "9.9.9"));
+
+        awaitLoaded();
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testKnownVersionAccepted() throws Exception {
+        load();
+        long rejected = cache.getRejected();
+
+        cache.validate(template("oscm-app", "1.0.0"));
+        assertEquals(rejected, cache.getRejected());
+    }
+
+    @Test(expected = ValidationException.class)
+    public void testUnknownChartRejected() throws Exception {
+        load();
+
+        cache.validate(template("oscm-db", "1.0.0"));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void testUnknownVersionRejected() throws Exception {
+        load();
+
+        cache.validate(template("oscm-app", "9.9.9"));
+    }
+
+    @Test
+    public void testPublishedVersionAccepted() throws Exception {
+        load();
+        write(PUBLISHED);
+        long rejected = cache.getRejected();
+
+        // the index is fresh and predates the new version
+        try {
+            cache.validate(template("oscm-app", "1.1.0"));
+            fail();
+        } catch (ValidationException e) {
+            assertEquals(rejected + 1, cache.getRejected());
+        }
+
+        // a stale index is reloaded instead of rejecting the version
+        Thread.sleep(RELOAD_AGE * 2);
+        cache.validate(template("oscm-app", "1.1.0"));
+        assertEquals(rejected + 1, cache.getRejected());
+
+        // the reloaded index is fresh again and contains the new version
+        awaitFresh();
+        cache.validate(template("oscm-app", "1.1.0"));
+        assertEquals(rejected + 2, cache.getRejected());
+    }
+
+    private void load() throws Exception {
+        cache.prefetch(template("oscm-app", "1.0.0"));
+        awaitLoaded();
+    }
+
+    private void awaitLoaded() throws InterruptedException {
+        long end = System.currentTimeMillis() + AWAIT;
+        while (cache.size() == 0 && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Waits until an unknown version is rejected again, i.e. the index was
+     * reloaded.
+     */
+    private void awaitFresh() throws Exception {
+        long end = System.currentTimeMillis() + AWAIT;
+        while (System.currentTimeMillis() < end) {
+            try {
+                cache.validate(template("oscm-app", "9.9.9"));
+            } catch (ValidationException e) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail();
+    }
+
+    private void write(String published) throws IOException {
+        Files.write(index.toPath(), String.format(INDEX, published)
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Template template(String name, String version) {
+        Template template = new Template();
+        template.setRepository(repository);
+        template.setName(name);
+        template.setVersion(version);
+        return template;
+    }
+}
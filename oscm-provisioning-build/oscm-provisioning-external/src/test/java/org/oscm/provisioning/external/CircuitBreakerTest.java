@@ -0,0 +1,74 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class CircuitBreakerTest {
+
+    private static final int THRESHOLD = 3;
+    private static final long OPEN_TIMEOUT = 100;
+
+    private CircuitBreaker breaker;
+
+    @Before
+    public void setUp() {
+        breaker = new CircuitBreaker(THRESHOLD, OPEN_TIMEOUT, 1);
+    }
+
+    @Test
+    public void testRepeatedDeadlinesOpen() {
+        for (int i = 0; i < THRESHOLD - 1; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onDeadline();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onDeadline();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.isOpen());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    public void testSuccessResetsDeadlines() {
+        for (int i = 0; i < THRESHOLD * 2; i++) {
+            assertTrue(breaker.tryAcquire());
+            if (i % 2 == 0) {
+                breaker.onDeadline();
+            } else {
+                breaker.onSuccess();
+            }
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testProbeDeadlineOpens() throws Exception {
+        for (int i = 0; i < THRESHOLD; i++) {
+            breaker.onFailure();
+        }
+        Thread.sleep(OPEN_TIMEOUT + 10);
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onDeadline();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+}
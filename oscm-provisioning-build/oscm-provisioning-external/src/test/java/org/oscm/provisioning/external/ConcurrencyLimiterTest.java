@@ -0,0 +1,91 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConcurrencyLimiterTest {
+
+    private static final String STATUS = "status";
+    private static final String INSTALL = "install";
+
+    private ConcurrencyLimiter limiter;
+
+    @Before
+    public void setUp() {
+        limiter = new ConcurrencyLimiter(8, 16, 2.0);
+    }
+
+    @Test
+    public void testBaselinePerOperation() throws Exception {
+        call(STATUS, 1000);
+        call(INSTALL, 500000);
+
+        assertEquals(1000, limiter.getBaseline(STATUS));
+        assertEquals(500000, limiter.getBaseline(INSTALL));
+        assertEquals(Long.MAX_VALUE, limiter.getBaseline("list"));
+    }
+
+    @Test
+    public void testSlowOperationDoesNotShrinkLimit() throws Exception {
+        call(STATUS, 1000);
+
+        // installs are far slower than status calls but not slower than
+        // other installs
+        for (int i = 0; i < 20; i++) {
+            call(INSTALL, 500000);
+        }
+
+        assertEquals(8, limiter.getLimit());
+    }
+
+    @Test
+    public void testSlowerCallShrinksLimit() throws Exception {
+        call(STATUS, 1000);
+        call(STATUS, 5000);
+
+        assertTrue(limiter.getLimit() < 8);
+    }
+
+    @Test
+    public void testFailureShrinksLimit() throws Exception {
+        limiter.acquire();
+        limiter.onFailure();
+
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testTryAcquireTimesOut() throws Exception {
+        for (int i = 0; i < 8; i++) {
+            limiter.acquire();
+        }
+
+        long start = System.nanoTime();
+        assertFalse(limiter.tryAcquire(50, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS
+                .toNanos(50));
+
+        limiter.onIgnored();
+        assertTrue(limiter.tryAcquire(50, TimeUnit.MILLISECONDS));
+    }
+
+    private void call(String operation, long latency) throws Exception {
+        limiter.acquire();
+        limiter.onSuccess(operation, latency);
+    }
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.oscm.common.interfaces.exceptions.ValidationException;
+
+public class ResourceParserTest {
+
+    // the layout the split based parser was written for
+    private static final String SPACED = "==> v1/Deployment NAME DESIRED CURRENT UP-TO-DATE AVAILABLE AGE "
+            + "oscm-app 1 1 1 1 1m "
+            + "==> v1/Service NAME CLUSTER-IP EXTERNAL-IP PORT(S) AGE "
+            + "svc1 10.0.0.1 <none> 80/TCP 1m "
+            + "svc2 10.0.0.2 172.16.0.2 80:30080/TCP,443/TCP 1m "
+            + "==> v1/Pod NAME READY STATUS RESTARTS AGE "
+            + "oscm-app-3245178341-x2kqj 1/1 Running 0 1m";
+
+    private static final String ALIGNED = "==> v1/Deployment\n"
+            + "NAME      DESIRED  CURRENT  UP-TO-DATE  AVAILABLE  AGE\n"
+            + "oscm-app  1        1        1           1          1m\n"
+            + "\n" //
+            + "==> v1/Service\n"
+            + "NAME  CLUSTER-IP  EXTERNAL-IP  PORT(S)               AGE\n"
+            + "svc1  10.0.0.1    <none>       80/TCP                1m\n"
+            + "svc2  10.0.0.2    172.16.0.2   80:30080/TCP,443/TCP  1m\n"
+            + "\n" //
+            + "==> v1/Pod\n"
+            + "NAME                       READY  STATUS   RESTARTS  AGE\n"
+            + "oscm-app-3245178341-x2kqj  1/1    Running  0         1m\n";
+
+    private static final String TYPED = "==> v1/Service\r\n"
+            + "NAME  TYPE       CLUSTER-IP  EXTERNAL-IP  PORT(S)               AGE\r\n"
+            + "svc1  ClusterIP  10.0.0.1    <none>       80/TCP                1m\r\n"
+            + "svc2  NodePort   10.0.0.2    172.16.0.2   80:30080/TCP,443/TCP  1m\r\n";
+
+    @Test
+    public void testSpacedLayout() throws Exception {
+        assertEquals(expected(), ResourceParser.parseServices(SPACED));
+    }
+
+    @Test
+    public void testAlignedLayout() throws Exception {
+        assertEquals(expected(), ResourceParser.parseServices(ALIGNED));
+    }
+
+    @Test
+    public void testTypeColumn() throws Exception {
+        assertEquals(expected(), ResourceParser.parseServices(TYPED));
+    }
+
+    @Test
+    public void testIncompleteRowSkipped() throws Exception {
+        String resources = "==> v1/Service\n"
+                + "NAME  CLUSTER-IP  EXTERNAL-IP  PORT(S)  AGE\n"
+                + "svc0  10.0.0.9\n"
+                + "svc1  10.0.0.1    <none>       80/TCP   1m\n";
+
+        Map<String, String> services = ResourceParser
+                .parseServices(resources);
+
+        assertEquals(1, services.size());
+        assertEquals("10.0.0.1,<none>(80/TCP)", services.get("svc1"));
+    }
+
+    @Test
+    public void testNoServices() throws Exception {
+        assertEquals(0, ResourceParser
+                .parseServices("==> v1/Service NAME CLUSTER-IP "
+                        + "EXTERNAL-IP PORT(S) AGE ==> v1/Pod")
+                .size());
+    }
+
+    @Test(expected = ValidationException.class)
+    public void testNoServiceSection() throws Exception {
+        ResourceParser.parseServices("==> v1/Pod NAME READY STATUS");
+    }
+
+    private static Map<String, String> expected() {
+        Map<String, String> services = new HashMap<>();
+        services.put("svc1", "10.0.0.1,<none>(80/TCP)");
+        services.put("svc2", "10.0.0.2,172.16.0.2(80:30080/TCP,443/TCP)");
+        return services;
+    }
+}
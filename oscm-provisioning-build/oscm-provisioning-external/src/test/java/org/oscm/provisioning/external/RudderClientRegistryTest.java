@@ -0,0 +1,110 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.oscm.common.rest.RestClient;
+
+public class RudderClientRegistryTest {
+
+    private static final long IDLE_TIMEOUT = 200;
+
+    private static final String TARGET_A = "http://a";
+    private static final String TARGET_B = "http://b";
+
+    private RudderClientRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = RudderClientRegistry.getInstance();
+        registry.clear();
+        registry.init(RudderClientRegistry.DEFAULT_MAX_CONNECTIONS,
+                IDLE_TIMEOUT);
+    }
+
+    @After
+    public void tearDown() {
+        registry.clear();
+        registry.init(RudderClientRegistry.DEFAULT_MAX_CONNECTIONS,
+                RudderClientRegistry.DEFAULT_IDLE_TIMEOUT);
+    }
+
+    @Test
+    public void testEvictIdle() throws Exception {
+
+        RudderClient client = registry.getClient(TARGET_A);
+        assertSame(client, registry.getClient(TARGET_A));
+
+        Thread.sleep(IDLE_TIMEOUT + 50);
+        registry.getClient(TARGET_B);
+
+        assertEquals(1, registry.size());
+        assertTrue(registry.getClients().containsKey(TARGET_B));
+
+        RudderClient next = registry.getClient(TARGET_A);
+
+        // the isolation of the target outlives the client
+        assertNotSame(client, next);
+        assertSame(client.getCircuitBreaker(), next.getCircuitBreaker());
+        assertSame(client.getConcurrencyLimiter(),
+                next.getConcurrencyLimiter());
+    }
+
+    @Test
+    public void testKeepRecentlyUsed() throws Exception {
+
+        RudderClient client = registry.getClient(TARGET_A);
+
+        Thread.sleep(IDLE_TIMEOUT - 50);
+        assertSame(client, registry.getClient(TARGET_A));
+
+        Thread.sleep(100);
+        registry.getClient(TARGET_B);
+
+        assertEquals(2, registry.size());
+        assertSame(client, registry.getClient(TARGET_A));
+    }
+
+    @Test
+    public void testKeepInFlight() throws Exception {
+
+        RudderClient client = registry.getClient(TARGET_A);
+        client.getConcurrencyLimiter().acquire();
+        try {
+            Thread.sleep(IDLE_TIMEOUT + 50);
+            registry.getClient(TARGET_B);
+
+            assertEquals(2, registry.size());
+            assertSame(client, registry.getClient(TARGET_A));
+        } finally {
+            client.getConcurrencyLimiter().onIgnored();
+        }
+    }
+
+    @Test
+    public void testUseAfterClose() {
+
+        RudderClient client = registry.getClient(TARGET_A);
+        RestClient rest = client.client();
+
+        client.close();
+
+        // a caller holding an evicted client opens new connections
+        assertNotNull(client.client());
+        assertNotSame(rest, client.client());
+    }
+}
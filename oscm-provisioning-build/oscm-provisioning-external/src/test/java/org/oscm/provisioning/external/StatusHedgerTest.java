@@ -0,0 +1,196 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.external;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.oscm.common.interfaces.exceptions.ConnectionException;
+import org.oscm.common.interfaces.exceptions.ServiceException;
+
+public class StatusHedgerTest {
+
+    private static final long DEADLINE = 100;
+    private static final long AWAIT = 5000;
+    private static final int THREADS = 64;
+
+    private CountDownLatch latch;
+    private ConcurrencyLimiter limiter;
+
+    @Before
+    public void setUp() {
+        latch = new CountDownLatch(1);
+        limiter = new ConcurrencyLimiter(THREADS * 2, THREADS * 2, 2.0);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        latch.countDown();
+        awaitInFlight(0);
+
+        // lets the pool threads pick up work again
+        Thread.sleep(100);
+    }
+
+    @Test
+    public void testDeadlineKeepsPermit() throws Exception {
+
+        StatusHedger hedger = new StatusHedger("http://deadline", DEADLINE,
+                false, StatusHedger.DEFAULT_QUANTILE,
+                StatusHedger.DEFAULT_MIN_DELAY, StatusHedger.DEFAULT_BUDGET);
+
+        try {
+            hedger.call(permitted(this::block), limiter);
+            fail();
+        } catch (ConnectionException e) {
+            assertTrue(StatusHedger.isDeadline(e));
+        }
+
+        // the abandoned call still runs
+        assertEquals(1, limiter.getInFlight());
+
+        latch.countDown();
+        awaitInFlight(0);
+    }
+
+    @Test
+    public void testLimiterFullFailsWithinDeadline() throws Exception {
+
+        StatusHedger hedger = new StatusHedger("http://limit", DEADLINE,
+                false, StatusHedger.DEFAULT_QUANTILE,
+                StatusHedger.DEFAULT_MIN_DELAY, StatusHedger.DEFAULT_BUDGET);
+        limiter = new ConcurrencyLimiter(1, 1, 2.0);
+
+        try {
+            hedger.call(permitted(this::block), limiter);
+            fail();
+        } catch (ConnectionException e) {
+            assertTrue(StatusHedger.isTimeout(e));
+        }
+
+        // the permit is held by the abandoned call
+        long start = System.nanoTime();
+        try {
+            hedger.bounded(permitted(() -> "status"), limiter);
+            fail();
+        } catch (ConnectionException e) {
+            assertTrue(StatusHedger.isTimeout(e));
+        }
+
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS
+                .toNanos(DEADLINE * 3));
+        assertEquals(1, limiter.getInFlight());
+
+        latch.countDown();
+        awaitInFlight(0);
+
+        assertEquals("status",
+                hedger.bounded(permitted(() -> "status"), limiter));
+    }
+
+    @Test
+    public void testPoolFullFailsFast() throws Exception {
+
+        StatusHedger hedger = new StatusHedger("http://pool", DEADLINE,
+                false, StatusHedger.DEFAULT_QUANTILE,
+                StatusHedger.DEFAULT_MIN_DELAY, StatusHedger.DEFAULT_BUDGET);
+
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Thread caller = new Thread(() -> {
+                try {
+                    hedger.call(permitted(this::block), limiter);
+                } catch (ServiceException e) {
+                    // deadline
+                }
+            });
+            caller.start();
+            callers.add(caller);
+        }
+        for (Thread caller : callers) {
+            caller.join(AWAIT);
+        }
+
+        long start = System.nanoTime();
+        try {
+            hedger.call(permitted(() -> "status"), limiter);
+            fail();
+        } catch (ConnectionException e) {
+            assertTrue(StatusHedger.isDeadline(e));
+        }
+
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS
+                .toNanos(DEADLINE));
+        assertEquals(THREADS, limiter.getInFlight());
+    }
+
+    @Test
+    public void testHedge() throws Exception {
+
+        StatusHedger hedger = new StatusHedger("http://hedge", AWAIT, true,
+                StatusHedger.DEFAULT_QUANTILE, 10, 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            hedger.call(permitted(() -> "fast"), limiter);
+        }
+        assertEquals(0, hedger.getHedges());
+
+        AtomicInteger sent = new AtomicInteger();
+
+        String result = hedger.call(permitted(() -> sent.getAndIncrement() == 0
+                ? block() : "hedged"), limiter);
+
+        assertEquals("hedged", result);
+        assertEquals(1, hedger.getHedges());
+
+        // the first call still holds its permit
+        assertEquals(1, limiter.getInFlight());
+
+        latch.countDown();
+        awaitInFlight(0);
+    }
+
+    private String block() throws ServiceException {
+        try {
+            latch.await(AWAIT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "slow";
+    }
+
+    private StatusHedger.Call<String> permitted(StatusHedger.Call<String> call) {
+        return () -> {
+            try {
+                return call.call();
+            } finally {
+                limiter.onIgnored();
+            }
+        };
+    }
+
+    private void awaitInFlight(int inFlight) throws InterruptedException {
+        long end = System.currentTimeMillis() + AWAIT;
+        while (limiter.getInFlight() != inFlight
+                && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        assertEquals(inFlight, limiter.getInFlight());
+    }
+}
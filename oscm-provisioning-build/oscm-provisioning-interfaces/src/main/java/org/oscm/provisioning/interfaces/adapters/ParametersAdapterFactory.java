@@ -0,0 +1,167 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.interfaces.adapters;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Factory for the streaming Gson adapter of the untyped parameter maps. Reads
+ * values like the default object adapter does: numbers as doubles, objects as
+ * maps and arrays as lists, shared through the {@link ValueInterner}. Writes
+ * strings, numbers, booleans, maps and iterables directly and delegates any
+ * other value to the Gson instance.
+ */
+public class ParametersAdapterFactory implements TypeAdapterFactory {
+
+    private static final String ERROR_DUPLICATE_KEY = "duplicate key: ";
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+
+        if (!Map.class.isAssignableFrom(type.getRawType())) {
+            return null;
+        }
+
+        return (TypeAdapter<T>) new ParametersAdapter(gson);
+    }
+
+    private static class ParametersAdapter
+            extends TypeAdapter<Map<String, Object>> {
+
+        private final Gson gson;
+        private final ValueInterner interner = ValueInterner.getInstance();
+
+        private ParametersAdapter(Gson gson) {
+            this.gson = gson;
+        }
+
+        @Override
+        public void write(JsonWriter out, Map<String, Object> map)
+                throws IOException {
+            writeValue(out, map);
+        }
+
+        @Override
+        public Map<String, Object> read(JsonReader in) throws IOException {
+
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            // like the default map adapter, duplicate keys are only
+            // rejected on the top level
+            return readObject(in, true);
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private void writeValue(JsonWriter out, Object value)
+                throws IOException {
+
+            if (value == null) {
+                out.nullValue();
+            } else if (value instanceof String) {
+                out.value((String) value);
+            } else if (value instanceof Number) {
+                out.value((Number) value);
+            } else if (value instanceof Boolean) {
+                out.value(((Boolean) value).booleanValue());
+            } else if (value instanceof Map) {
+                out.beginObject();
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    out.name(String.valueOf(entry.getKey()));
+                    writeValue(out, entry.getValue());
+                }
+                out.endObject();
+            } else if (value instanceof List && value instanceof RandomAccess) {
+                // indexed access avoids an iterator per nested list
+                List<?> list = (List<?>) value;
+                out.beginArray();
+                for (int i = 0; i < list.size(); i++) {
+                    writeValue(out, list.get(i));
+                }
+                out.endArray();
+            } else if (value instanceof Iterable) {
+                out.beginArray();
+                for (Object element : (Iterable<?>) value) {
+                    writeValue(out, element);
+                }
+                out.endArray();
+            } else {
+                TypeAdapter adapter = gson.getAdapter(value.getClass());
+                adapter.write(out, value);
+            }
+        }
+
+        private Object readValue(JsonReader in) throws IOException {
+
+            switch (in.peek()) {
+            case BEGIN_OBJECT:
+                return readObject(in, false);
+
+            case BEGIN_ARRAY:
+                List<Object> list = new ArrayList<>();
+                in.beginArray();
+                while (in.hasNext()) {
+                    list.add(readValue(in));
+                }
+                in.endArray();
+                return interner.list(list);
+
+            case STRING:
+                return interner.string(in.nextString());
+
+            case NUMBER:
+                return interner.number(in.nextDouble());
+
+            case BOOLEAN:
+                return Boolean.valueOf(in.nextBoolean());
+
+            case NULL:
+                in.nextNull();
+                return null;
+
+            default:
+                throw new IllegalStateException();
+            }
+        }
+
+        private Map<String, Object> readObject(JsonReader in,
+                boolean unique) throws IOException {
+
+            Map<String, Object> map = new LinkedHashMap<>();
+
+            in.beginObject();
+            while (in.hasNext()) {
+                String key = in.nextName();
+                if (map.put(key, readValue(in)) != null && unique) {
+                    throw new JsonSyntaxException(ERROR_DUPLICATE_KEY + key);
+                }
+            }
+            in.endObject();
+
+            return interner.map(map);
+        }
+    }
+}
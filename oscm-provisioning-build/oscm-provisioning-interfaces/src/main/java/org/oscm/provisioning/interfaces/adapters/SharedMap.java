@@ -0,0 +1,182 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.interfaces.adapters;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable map of parameters that shares its keys with all maps of the same
+ * shape. A map only holds its own array of values, the ordered keys and their
+ * index are held by the interned {@link Shape}. Iteration keeps the order of
+ * the keys.
+ */
+final class SharedMap extends AbstractMap<String, Object> {
+
+    /**
+     * Ordered keys of a map, shared by all maps with the same keys in the
+     * same order.
+     */
+    static final class Shape {
+
+        private static final int LINEAR_SCAN = 8;
+
+        private final String[] keys;
+        private final int hash;
+
+        // built on the first lookup, most shapes are only used for interning
+        private volatile Map<String, Integer> index;
+
+        Shape(String[] keys) {
+            this.keys = keys;
+            this.hash = Arrays.hashCode(keys);
+        }
+
+        private int indexOf(Object key) {
+
+            if (keys.length > LINEAR_SCAN) {
+                Map<String, Integer> map = index;
+
+                if (map == null) {
+                    map = new HashMap<>(keys.length * 2);
+                    for (int i = 0; i < keys.length; i++) {
+                        map.put(keys[i], Integer.valueOf(i));
+                    }
+                    index = map;
+                }
+
+                Integer i = map.get(key);
+                return i != null ? i.intValue() : -1;
+            }
+
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Shape
+                    && Arrays.equals(keys, ((Shape) obj).keys);
+        }
+    }
+
+    private final Shape shape;
+    private final Object[] values;
+    private final int hash;
+
+    SharedMap(Shape shape, Object[] values) {
+        this.shape = shape;
+        this.values = values;
+
+        int h = 0;
+        for (int i = 0; i < values.length; i++) {
+            h += shape.keys[i].hashCode()
+                    ^ (values[i] != null ? values[i].hashCode() : 0);
+        }
+        this.hash = h;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return shape.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = shape.indexOf(key);
+        return i >= 0 ? values[i] : null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+
+        // not cached, a field would grow every map for a rare call
+        return new AbstractSet<Map.Entry<String, Object>>() {
+
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return new Iterator<Map.Entry<String, Object>>() {
+
+                    private int next = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < values.length;
+                    }
+
+                    @Override
+                    public Map.Entry<String, Object> next() {
+
+                        if (next >= values.length) {
+                            throw new NoSuchElementException();
+                        }
+
+                        int i = next++;
+                        return new SimpleImmutableEntry<>(shape.keys[i],
+                                values[i]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (obj == this) {
+            return true;
+        }
+
+        if (obj instanceof SharedMap) {
+            SharedMap other = (SharedMap) obj;
+
+            if (hash != other.hash) {
+                return false;
+            }
+
+            if (shape.equals(other.shape)) {
+                return Arrays.equals(values, other.values);
+            }
+        }
+
+        // same keys in a different order
+        return super.equals(obj);
+    }
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.interfaces.adapters;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Streaming Gson adapter for string maps such as the services of a release
+ * and the labels of a subscription. Like the reflective map adapter, numbers
+ * and booleans are read as strings and duplicate keys are rejected.
+ */
+public class StringMapAdapter extends TypeAdapter<Map<String, String>> {
+
+    private static final String ERROR_DUPLICATE_KEY = "duplicate key: ";
+
+    @Override
+    public void write(JsonWriter out, Map<String, String> map)
+            throws IOException {
+
+        if (map == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            out.name(String.valueOf(entry.getKey())).value(entry.getValue());
+        }
+        out.endObject();
+    }
+
+    @Override
+    public Map<String, String> read(JsonReader in) throws IOException {
+
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        Map<String, String> map = new LinkedHashMap<>();
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String key = in.nextName();
+
+            if (map.put(key, readString(in)) != null) {
+                throw new JsonSyntaxException(ERROR_DUPLICATE_KEY + key);
+            }
+        }
+        in.endObject();
+
+        return map;
+    }
+
+    /**
+     * Reads a string value the same way as the default string adapter.
+     *
+     * @param in
+     *            the reader
+     * @return the string or null
+     * @throws IOException
+     */
+    static String readString(JsonReader in) throws IOException {
+
+        JsonToken token = in.peek();
+
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+
+        return in.nextString();
+    }
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.interfaces.adapters;
+
+import java.io.IOException;
+
+import org.oscm.provisioning.interfaces.data.Template;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Streaming Gson adapter for {@link Template}. Produces the same JSON as the
+ * reflective adapter and ignores unknown fields on read. Read templates are
+ * shared through the {@link ValueInterner}.
+ */
+public class TemplateAdapter extends TypeAdapter<Template> {
+
+    @Override
+    public void write(JsonWriter out, Template template) throws IOException {
+
+        if (template == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name(Template.FIELD_REPOSITORY).value(template.getRepository());
+        out.name(Template.FIELD_NAME).value(template.getName());
+        out.name(Template.FIELD_TEMPLATE_VERSION).value(template.getVersion());
+        out.endObject();
+    }
+
+    @Override
+    public Template read(JsonReader in) throws IOException {
+
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String repository = null;
+        String name = null;
+        String version = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+            case Template.FIELD_REPOSITORY:
+                repository = StringMapAdapter.readString(in);
+                break;
+            case Template.FIELD_NAME:
+                name = StringMapAdapter.readString(in);
+                break;
+            case Template.FIELD_TEMPLATE_VERSION:
+                version = StringMapAdapter.readString(in);
+                break;
+            default:
+                in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return ValueInterner.getInstance().template(repository, name,
+                version);
+    }
+}
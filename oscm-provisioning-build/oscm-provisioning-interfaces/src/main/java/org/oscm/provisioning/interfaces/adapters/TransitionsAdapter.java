@@ -0,0 +1,102 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.interfaces.adapters;
+
+import java.io.IOException;
+
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Gson adapter for the status transition times of a release. The times are
+ * held as array indexed by the status ordinal and written as object with the
+ * status options as keys, e.g. {"creating":1508234400000}, so the order of
+ * the statuses is not part of the stored format. Unknown statuses are
+ * skipped when reading.
+ */
+public class TransitionsAdapter extends TypeAdapter<long[]> {
+
+    private static final String[] OPTIONS = new String[Status
+            .values().length];
+
+    static {
+        OPTIONS[Status.CREATING.ordinal()] = Release.OPTION_CREATNG;
+        OPTIONS[Status.UPDATING.ordinal()] = Release.OPTION_UPDATING;
+        OPTIONS[Status.DELETING.ordinal()] = Release.OPTION_DELETING;
+        OPTIONS[Status.PENDING.ordinal()] = Release.OPTION_PENDING;
+        OPTIONS[Status.DEPLOYED.ordinal()] = Release.OPTION_DEPLOYED;
+        OPTIONS[Status.DELETED.ordinal()] = Release.OPTION_DELETED;
+        OPTIONS[Status.FAILED.ordinal()] = Release.OPTION_FAILED;
+    }
+
+    @Override
+    public void write(JsonWriter out, long[] transitions) throws IOException {
+
+        if (transitions == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        for (int i = 0; i < OPTIONS.length && i < transitions.length; i++) {
+            if (transitions[i] != 0) {
+                out.name(OPTIONS[i]).value(transitions[i]);
+            }
+        }
+        out.endObject();
+    }
+
+    @Override
+    public long[] read(JsonReader in) throws IOException {
+
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        long[] transitions = new long[OPTIONS.length];
+
+        in.beginObject();
+        while (in.hasNext()) {
+            int index = indexOf(in.nextName());
+
+            if (index >= 0) {
+                transitions[index] = in.nextLong();
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return transitions;
+    }
+
+    /**
+     * Gets the status ordinal of the given status option.
+     *
+     * @param option
+     *            the status option
+     * @return the ordinal or -1 if unknown
+     */
+    private static int indexOf(String option) {
+
+        for (int i = 0; i < OPTIONS.length; i++) {
+            if (OPTIONS[i].equals(option)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
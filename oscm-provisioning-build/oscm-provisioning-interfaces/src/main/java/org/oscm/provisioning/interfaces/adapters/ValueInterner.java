@@ -0,0 +1,220 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.interfaces.adapters;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.oscm.provisioning.interfaces.data.Template;
+
+/**
+ * Interns the templates and parameters of deserialized releases and
+ * subscriptions. Thousands of releases use the same few templates and mostly
+ * the same parameters, so equal templates, strings, numbers, lists and maps
+ * are shared instead of being materialized per release. Parameter maps become
+ * immutable {@link SharedMap}s: the keys are shared by all maps with the same
+ * keys, a map only holds its values, and equal maps are one instance. Shared
+ * instances must not be modified. The interner is bounded, it is cleared when
+ * full, which only ends the sharing with earlier instances.
+ */
+public class ValueInterner {
+
+    public static final int DEFAULT_MAX_SIZE = 100000;
+
+    private static final ValueInterner interner = new ValueInterner();
+
+    /**
+     * Gets the singleton instance of the interner.
+     *
+     * @return the interner
+     */
+    public static ValueInterner getInstance() {
+        return interner;
+    }
+
+    private static final class TemplateKey {
+
+        private final String repository;
+        private final String name;
+        private final String version;
+
+        private TemplateKey(String repository, String name, String version) {
+            this.repository = repository;
+            this.name = name;
+            this.version = version;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(new Object[] { repository, name, version });
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (!(obj instanceof TemplateKey)) {
+                return false;
+            }
+
+            TemplateKey other = (TemplateKey) obj;
+            return equal(repository, other.repository)
+                    && equal(name, other.name)
+                    && equal(version, other.version);
+        }
+
+        private static boolean equal(String a, String b) {
+            return a == null ? b == null : a.equals(b);
+        }
+    }
+
+    private final ConcurrentMap<TemplateKey, Template> templates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, Object> values = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled = true;
+    private volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    private ValueInterner() {
+    }
+
+    /**
+     * Configures the interner.
+     *
+     * @param enabled
+     *            false to materialize templates and parameters per release
+     * @param maxSize
+     *            the maximum number of interned values
+     */
+    public void init(boolean enabled, int maxSize) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        templates.clear();
+        values.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int size() {
+        return templates.size() + values.size();
+    }
+
+    /**
+     * Gets the template with the given coordinates.
+     *
+     * @return the shared template, a new one if disabled
+     */
+    public Template template(String repository, String name, String version) {
+
+        if (!enabled) {
+            Template template = new Template();
+            template.setRepository(repository);
+            template.setName(name);
+            template.setVersion(version);
+            return template;
+        }
+
+        TemplateKey key = new TemplateKey(repository, name, version);
+        Template template = templates.get(key);
+
+        if (template == null) {
+            if (templates.size() >= maxSize) {
+                templates.clear();
+            }
+
+            template = new Template();
+            template.setRepository(string(repository));
+            template.setName(string(name));
+            template.setVersion(string(version));
+
+            Template existing = templates.putIfAbsent(key, template);
+            if (existing != null) {
+                template = existing;
+            }
+        }
+
+        return template;
+    }
+
+    public String string(String value) {
+        return enabled ? intern(value) : value;
+    }
+
+    public Double number(double value) {
+        return enabled ? intern(Double.valueOf(value)) : Double.valueOf(value);
+    }
+
+    /**
+     * Gets the shared immutable version of the given list. The elements have
+     * to be interned already.
+     *
+     * @param list
+     *            the read list
+     * @return the shared list, the given one if disabled
+     */
+    public List<Object> list(List<Object> list) {
+
+        if (!enabled) {
+            return list;
+        }
+
+        return intern(Collections
+                .unmodifiableList(Arrays.asList(list.toArray())));
+    }
+
+    /**
+     * Gets the shared immutable version of the given map. The values have to
+     * be interned already.
+     *
+     * @param map
+     *            the read map
+     * @return the shared map, the given one if disabled
+     */
+    public Map<String, Object> map(Map<String, Object> map) {
+
+        if (!enabled || map == null) {
+            return map;
+        }
+
+        String[] keys = new String[map.size()];
+        Object[] vals = new Object[map.size()];
+
+        int i = 0;
+        for (Map.Entry<String, Object> e : map.entrySet()) {
+            keys[i] = string(e.getKey());
+            vals[i] = e.getValue();
+            i++;
+        }
+
+        return intern(new SharedMap(intern(new SharedMap.Shape(keys)), vals));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T intern(T value) {
+
+        if (value == null) {
+            return null;
+        }
+
+        Object existing = values.putIfAbsent(value, value);
+
+        if (existing == null) {
+            if (values.size() > maxSize) {
+                values.clear();
+            }
+            return value;
+        }
+
+        return (T) existing;
+    }
+}
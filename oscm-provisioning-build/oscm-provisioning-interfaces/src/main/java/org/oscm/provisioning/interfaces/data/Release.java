@@ -14,7 +14,11 @@ import org.oscm.common.interfaces.data.Event;
 import org.oscm.common.interfaces.data.Failure;
 import org.oscm.common.interfaces.exceptions.ServiceException;
 import org.oscm.common.interfaces.keys.ActivityKey;
+import org.oscm.provisioning.interfaces.adapters.ParametersAdapterFactory;
+import org.oscm.provisioning.interfaces.adapters.StringMapAdapter;
+import org.oscm.provisioning.interfaces.adapters.TransitionsAdapter;
 
+import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
 
 /**
@@ -31,6 +35,10 @@ public class Release extends Event {
     public static final String FIELD_NAMESPACE = "namespace";
     public static final String FIELD_TEMPLATE = "template";
     public static final String FIELD_PARAMETERS = "parameters";
+    public static final String FIELD_HASH = "hash";
+    public static final String FIELD_TRANSITIONS = "transitions";
+    public static final String FIELD_ATTEMPTS = "attempts";
+    public static final String FIELD_NEXT_ATTEMPT = "next_attempt";
 
     public static final String OPTION_CREATNG = "creating";
     public static final String OPTION_UPDATING = "updating";
@@ -82,19 +90,100 @@ public class Release extends Event {
     private String instance;
 
     @SerializedName(FIELD_PARAMETERS)
+    @JsonAdapter(ParametersAdapterFactory.class)
     private Map<String, Object> parameters;
 
     @SerializedName(FIELD_SERVICES)
+    @JsonAdapter(StringMapAdapter.class)
     private Map<String, String> services;
 
+    @SerializedName(FIELD_HASH)
+    private String hash;
+
+    @SerializedName(FIELD_TRANSITIONS)
+    @JsonAdapter(TransitionsAdapter.class)
+    private long[] transitions;
+
+    @SerializedName(FIELD_ATTEMPTS)
+    private Integer attempts;
+
+    @SerializedName(FIELD_NEXT_ATTEMPT)
+    private Long nextAttempt;
+
+    private transient Status previous;
+
     public Status getStatus() {
         return status;
     }
 
+    /**
+     * Sets the status. A status change records the time the new status is
+     * entered and remembers the left status until the change is recorded by
+     * the metrics.
+     *
+     * @param status
+     *            the new status
+     */
     public void setStatus(Status status) {
+
+        if (status != null && status != this.status) {
+            if (this.status != null) {
+                previous = this.status;
+            }
+            setTransition(status, System.currentTimeMillis());
+        }
+
         this.status = status;
     }
 
+    /**
+     * Gets the status that was left by the last status change of this
+     * instance. Not stored with the release.
+     *
+     * @return the left status or null if the status was not changed
+     */
+    public Status getPreviousStatus() {
+        return previous;
+    }
+
+    public void clearPreviousStatus() {
+        previous = null;
+    }
+
+    /**
+     * Gets the time the release last entered the given status.
+     *
+     * @param status
+     *            the status
+     * @return the time in ms or 0 if not recorded
+     */
+    public long getTransition(Status status) {
+        return transitions != null ? transitions[status.ordinal()] : 0;
+    }
+
+    public void setTransition(Status status, long time) {
+
+        if (transitions == null) {
+            transitions = new long[Status.values().length];
+        }
+
+        transitions[status.ordinal()] = time;
+    }
+
+    /**
+     * Gets the times the release last entered each status, indexed by the
+     * status ordinal, 0 if not recorded.
+     *
+     * @return the times in ms or null if none are recorded
+     */
+    public long[] getTransitions() {
+        return transitions;
+    }
+
+    public void setTransitions(long[] transitions) {
+        this.transitions = transitions;
+    }
+
     public Failure getFailure() {
         return failure;
     }
@@ -111,6 +200,12 @@ public class Release extends Event {
         this.target = target;
     }
 
+    /**
+     * Gets the template. The template of a read release is shared with other
+     * releases if interning is enabled and must not be modified.
+     *
+     * @return the template
+     */
     public Template getTemplate() {
         return template;
     }
@@ -135,6 +230,13 @@ public class Release extends Event {
         this.instance = instance;
     }
 
+    /**
+     * Gets the Helm values. The parameters of a read release are an immutable
+     * map shared with other releases if interning is enabled, set a new map
+     * to change them.
+     *
+     * @return the parameters
+     */
     public Map<String, Object> getParameters() {
         return parameters;
     }
@@ -151,6 +253,60 @@ public class Release extends Event {
         this.services = services;
     }
 
+    /**
+     * Gets the content hash of the template and parameters the release was
+     * last installed or upgraded with.
+     *
+     * @return the hash or null if unknown
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    /**
+     * Gets the number of failed attempts of the current operation or status
+     * poll that are retried.
+     *
+     * @return the number of attempts, 0 if not retrying
+     */
+    public int getAttempts() {
+        return attempts != null ? attempts.intValue() : 0;
+    }
+
+    /**
+     * Sets the number of failed attempts. Not stored if 0.
+     *
+     * @param attempts
+     *            the number of attempts
+     */
+    public void setAttempts(int attempts) {
+        this.attempts = attempts != 0 ? Integer.valueOf(attempts) : null;
+    }
+
+    /**
+     * Gets the time of the next attempt of a retried operation or status
+     * poll.
+     *
+     * @return the time in ms or 0 if not retrying
+     */
+    public long getNextAttempt() {
+        return nextAttempt != null ? nextAttempt.longValue() : 0;
+    }
+
+    /**
+     * Sets the time of the next attempt. Not stored if 0.
+     *
+     * @param nextAttempt
+     *            the time in ms
+     */
+    public void setNextAttempt(long nextAttempt) {
+        this.nextAttempt = nextAttempt != 0 ? Long.valueOf(nextAttempt) : null;
+    }
+
     @Override
     public void validateFor(ActivityKey activity) throws ServiceException {
         // nothing to validate
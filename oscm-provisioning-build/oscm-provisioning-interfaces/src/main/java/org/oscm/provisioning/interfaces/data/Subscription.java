@@ -13,7 +13,10 @@ import java.util.Map;
 import org.oscm.common.interfaces.data.Event;
 import org.oscm.common.interfaces.exceptions.ServiceException;
 import org.oscm.common.interfaces.keys.ActivityKey;
+import org.oscm.provisioning.interfaces.adapters.ParametersAdapterFactory;
+import org.oscm.provisioning.interfaces.adapters.StringMapAdapter;
 
+import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
 
 /**
@@ -38,9 +41,11 @@ public class Subscription extends Event {
     private Template template;
 
     @SerializedName(FIELD_LABELS)
+    @JsonAdapter(StringMapAdapter.class)
     private Map<String, String> labels;
 
     @SerializedName(FIELD_PARAMETERS)
+    @JsonAdapter(ParametersAdapterFactory.class)
     private Map<String, Object> parameters;
 
     public String getTarget() {
@@ -59,6 +64,12 @@ public class Subscription extends Event {
         this.namespace = namespace;
     }
 
+    /**
+     * Gets the template. The template of a read subscription is shared with
+     * other subscriptions if interning is enabled and must not be modified.
+     *
+     * @return the template
+     */
     public Template getTemplate() {
         return template;
     }
@@ -75,6 +86,13 @@ public class Subscription extends Event {
         this.labels = labels;
     }
 
+    /**
+     * Gets the Helm values. The parameters of a read subscription are an
+     * immutable map shared with other subscriptions if interning is enabled,
+     * set a new map to change them.
+     *
+     * @return the parameters
+     */
     public Map<String, Object> getParameters() {
         return parameters;
     }
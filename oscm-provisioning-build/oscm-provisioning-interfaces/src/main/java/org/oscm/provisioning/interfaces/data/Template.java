@@ -8,12 +8,16 @@
 
 package org.oscm.provisioning.interfaces.data;
 
+import org.oscm.provisioning.interfaces.adapters.TemplateAdapter;
+
+import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
 
 /**
  * @author miethaner
  *
  */
+@JsonAdapter(TemplateAdapter.class)
 public class Template {
 
     public static final String FIELD_REPOSITORY = "repository";
@@ -17,7 +17,59 @@ import org.oscm.common.interfaces.keys.ConfigurationKey;
  */
 public enum Config implements ConfigurationKey {
     JERSEY_RUDDER_SIGNING_CERT("JWT_RUDDER_SIGNIN_CERT", false,
-            "/opt/cert/rudder.pem"); //
+            "/opt/cert/rudder.pem"), //
+    RUDDER_MAX_CONNECTIONS("RUDDER_MAX_CONNECTIONS", false, "20"), //
+    RUDDER_CLIENT_IDLE_TIMEOUT("RUDDER_CLIENT_IDLE_TIMEOUT", false,
+            "600000"), //
+    POLL_BATCH_ENABLED("POLL_BATCH_ENABLED", false, "true"), //
+    POLL_BATCH_MAX_AGE("POLL_BATCH_MAX_AGE", false, "5000"), //
+    UPDATE_INTERVAL("UPDATE_INTERVAL", false, "2000"), //
+    MONITOR_INTERVAL("MONITOR_INTERVAL", false, "10000"), //
+    POLL_PENDING_MIN("POLL_PENDING_MIN", false, "2000"), //
+    POLL_PENDING_MAX("POLL_PENDING_MAX", false, "60000"), //
+    POLL_DEPLOYED_MIN("POLL_DEPLOYED_MIN", false, "60000"), //
+    POLL_DEPLOYED_MAX("POLL_DEPLOYED_MAX", false, "1800000"), //
+    POLL_BACKOFF_FACTOR("POLL_BACKOFF_FACTOR", false, "2.0"), //
+    POLL_JITTER("POLL_JITTER", false, "0.2"), //
+    EXECUTE_ASYNC("EXECUTE_ASYNC", false, "true"), //
+    EXECUTE_THREADS("EXECUTE_THREADS", false, "8"), //
+    EXECUTE_MAX_IN_FLIGHT("EXECUTE_MAX_IN_FLIGHT", false, "1000"), //
+    EXECUTE_ORPHAN_TIMEOUT("EXECUTE_ORPHAN_TIMEOUT", false, "600000"), //
+    EXECUTE_LANE_WEIGHTS("EXECUTE_LANE_WEIGHTS", false, "4,4,1"), //
+    EXECUTE_LANE_MAX_WAIT("EXECUTE_LANE_MAX_WAIT", false, "30000"), //
+    RUDDER_MAX_CONCURRENCY("RUDDER_MAX_CONCURRENCY", false, "16"), //
+    RUDDER_INITIAL_CONCURRENCY("RUDDER_INITIAL_CONCURRENCY", false, "4"), //
+    RUDDER_LATENCY_TOLERANCE("RUDDER_LATENCY_TOLERANCE", false, "2.0"), //
+    RUDDER_CIRCUIT_FAILURES("RUDDER_CIRCUIT_FAILURES", false, "5"), //
+    RUDDER_CIRCUIT_OPEN_TIMEOUT("RUDDER_CIRCUIT_OPEN_TIMEOUT", false,
+            "30000"), //
+    RUDDER_CIRCUIT_PROBES("RUDDER_CIRCUIT_PROBES", false, "1"), //
+    RUDDER_STATUS_DEADLINE("RUDDER_STATUS_DEADLINE", false, "10000"), //
+    RUDDER_HEDGE_ENABLED("RUDDER_HEDGE_ENABLED", false, "false"), //
+    RUDDER_HEDGE_QUANTILE("RUDDER_HEDGE_QUANTILE", false, "0.95"), //
+    RUDDER_HEDGE_MIN_DELAY("RUDDER_HEDGE_MIN_DELAY", false, "50"), //
+    RUDDER_HEDGE_BUDGET("RUDDER_HEDGE_BUDGET", false, "0.1"), //
+    STATUS_CACHE_SIZE("STATUS_CACHE_SIZE", false, "100000"), //
+    METRICS_PORT("METRICS_PORT", false, "9404"), //
+    UPDATE_COALESCE_WINDOW("UPDATE_COALESCE_WINDOW", false, "0"), //
+    STARTUP_RESTORE_TIMEOUT("STARTUP_RESTORE_TIMEOUT", false, "600000"), //
+    INTERN_ENABLED("INTERN_ENABLED", false, "true"), //
+    INTERN_MAX_SIZE("INTERN_MAX_SIZE", false, "100000"), //
+    CHART_CACHE_ENABLED("CHART_CACHE_ENABLED", false, "true"), //
+    CHART_CACHE_TTL("CHART_CACHE_TTL", false, "300000"), //
+    CHART_CACHE_SIZE("CHART_CACHE_SIZE", false, "100"), //
+    CHART_CACHE_REFRESH_HITS("CHART_CACHE_REFRESH_HITS", false, "10"), //
+    CHART_CACHE_TIMEOUT("CHART_CACHE_TIMEOUT", false, "2000"), //
+    STATUS_WEBHOOK_PORT("STATUS_WEBHOOK_PORT", false, "0"), //
+    STATUS_WEBHOOK_TOKEN("STATUS_WEBHOOK_TOKEN", false, ""), //
+    STATUS_INBOX_SIZE("STATUS_INBOX_SIZE", false, "100000"), //
+    STATUS_RECONCILE_INTERVAL("STATUS_RECONCILE_INTERVAL", false,
+            "60000"), //
+    RETRY_MAX_ATTEMPTS("RETRY_MAX_ATTEMPTS", false, "5"), //
+    RETRY_INITIAL_DELAY("RETRY_INITIAL_DELAY", false, "5000"), //
+    RETRY_MAX_DELAY("RETRY_MAX_DELAY", false, "300000"), //
+    RETRY_BACKOFF_FACTOR("RETRY_BACKOFF_FACTOR", false, "2.0"), //
+    RETRY_JITTER("RETRY_JITTER", false, "0.2"); //
 
     public static final Version LATEST_VERSION = new Version(1, 0, 0);
 
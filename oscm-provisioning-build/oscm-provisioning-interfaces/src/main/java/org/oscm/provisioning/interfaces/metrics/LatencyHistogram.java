@@ -0,0 +1,148 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.interfaces.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets in the style of an HDR
+ * histogram. Values are recorded in microseconds with a relative precision of
+ * about 3% up to several hours. Recording is a few atomic increments, so the
+ * histogram can stay enabled in production.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 6;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int HALF_COUNT = SUB_COUNT / 2;
+    private static final int MAX_SHIFT = 32;
+    private static final int BUCKETS = SUB_COUNT + MAX_SHIFT * HALF_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos
+     *            the latency in ns
+     */
+    public void recordNanos(long nanos) {
+        record(Math.max(0, nanos / 1000));
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param micros
+     *            the latency in us
+     */
+    public void record(long micros) {
+
+        counts.incrementAndGet(indexOf(micros));
+        count.increment();
+        sum.add(micros);
+
+        long current;
+        while (micros > (current = max.get())) {
+            if (max.compareAndSet(current, micros)) {
+                break;
+            }
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the sum of all recorded values.
+     *
+     * @return the sum in us
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return the maximum in us
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the value at the given quantile. The result is the upper bound of
+     * the bucket containing the quantile, capped at the maximum.
+     *
+     * @param quantile
+     *            the quantile between 0 and 1
+     * @return the value in us or 0 if nothing was recorded
+     */
+    public long getQuantile(double quantile) {
+
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+
+        return max.get();
+    }
+
+    static int indexOf(long value) {
+
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+
+        int log = 63 - Long.numberOfLeadingZeros(value);
+        int shift = log - SUB_BITS + 1;
+
+        if (shift > MAX_SHIFT) {
+            return BUCKETS - 1;
+        }
+
+        return SUB_COUNT + (shift - 1) * HALF_COUNT
+                + (int) (value >> shift) - HALF_COUNT;
+    }
+
+    static long upperBoundOf(int index) {
+
+        if (index < SUB_COUNT) {
+            return index;
+        }
+
+        int shift = (index - SUB_COUNT) / HALF_COUNT + 1;
+        long mantissa = (index - SUB_COUNT) % HALF_COUNT + HALF_COUNT;
+
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
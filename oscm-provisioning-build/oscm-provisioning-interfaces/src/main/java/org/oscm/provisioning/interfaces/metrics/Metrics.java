@@ -0,0 +1,153 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.interfaces.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry for the metrics of the application. Holds latency histograms and
+ * counters by name and labels, and collects gauges on demand from registered
+ * collectors. Histograms and counters should be looked up once and kept by
+ * the caller, as the lookup builds the key.
+ */
+public class Metrics {
+
+    private static final Metrics metrics = new Metrics();
+
+    /**
+     * Gets the singleton instance of the registry.
+     *
+     * @return the registry
+     */
+    public static Metrics getInstance() {
+        return metrics;
+    }
+
+    /**
+     * Supplier of gauge values that are read when the metrics are exported.
+     */
+    @FunctionalInterface
+    public interface Collector {
+
+        /**
+         * Adds the current gauge values to the given map.
+         *
+         * @param gauges
+         *            the gauge values mapped by key
+         */
+        void collect(Map<String, Number> gauges);
+    }
+
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final List<Collector> collectors = new CopyOnWriteArrayList<>();
+
+    private Metrics() {
+    }
+
+    /**
+     * Gets or creates the histogram with the given name and labels.
+     *
+     * @param name
+     *            the metric name
+     * @param labels
+     *            alternating label names and values
+     * @return the histogram
+     */
+    public LatencyHistogram histogram(String name, String... labels) {
+        return histograms.computeIfAbsent(key(name, labels),
+                (k) -> new LatencyHistogram());
+    }
+
+    /**
+     * Gets or creates the counter with the given name and labels.
+     *
+     * @param name
+     *            the metric name
+     * @param labels
+     *            alternating label names and values
+     * @return the counter
+     */
+    public LongAdder counter(String name, String... labels) {
+        return counters.computeIfAbsent(key(name, labels),
+                (k) -> new LongAdder());
+    }
+
+    public void addCollector(Collector collector) {
+        collectors.add(collector);
+    }
+
+    public SortedMap<String, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(histograms));
+    }
+
+    public SortedMap<String, Long> getCounters() {
+
+        SortedMap<String, Long> result = new TreeMap<>();
+        counters.forEach((k, v) -> result.put(k, Long.valueOf(v.sum())));
+
+        return result;
+    }
+
+    public SortedMap<String, Number> getGauges() {
+
+        SortedMap<String, Number> result = new TreeMap<>();
+        collectors.forEach((c) -> c.collect(result));
+
+        return result;
+    }
+
+    /**
+     * Builds the key of a metric in the Prometheus notation, e.g.
+     * name{label="value"}.
+     *
+     * @param name
+     *            the metric name
+     * @param labels
+     *            alternating label names and values
+     * @return the key
+     */
+    public static String key(String name, String... labels) {
+
+        if (labels.length == 0) {
+            return name;
+        }
+
+        StringBuilder sb = new StringBuilder(name).append('{');
+
+        for (int i = 0; i + 1 < labels.length; i += 2) {
+            if (i > 0) {
+                sb.append(',');
+            }
+
+            sb.append(labels[i]).append("=\"");
+
+            String value = labels[i + 1] != null ? labels[i + 1] : "";
+            for (int j = 0; j < value.length(); j++) {
+                char c = value.charAt(j);
+                if (c == '"' || c == '\\') {
+                    sb.append('\\');
+                }
+                sb.append(c == '\n' ? ' ' : c);
+            }
+
+            sb.append('"');
+        }
+
+        return sb.append('}').toString();
+    }
+}
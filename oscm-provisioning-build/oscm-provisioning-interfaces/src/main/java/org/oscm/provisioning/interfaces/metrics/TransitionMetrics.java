@@ -0,0 +1,85 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.interfaces.metrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.oscm.common.interfaces.data.Event;
+import org.oscm.common.interfaces.exceptions.ServiceException;
+import org.oscm.common.interfaces.keys.TransitionKey;
+
+/**
+ * Instrumentation of a single transition. Records the latency of each call,
+ * the number of emitted events and the errors by exception type.
+ */
+public class TransitionMetrics {
+
+    public static final String LATENCY = "provisioning_transition_latency_seconds";
+    public static final String EVENTS = "provisioning_transition_events_total";
+    public static final String ERRORS = "provisioning_transition_errors_total";
+
+    private static final String LABEL_TRANSITION = "transition";
+    private static final String LABEL_EXCEPTION = "exception";
+
+    /**
+     * The instrumented transition call.
+     */
+    @FunctionalInterface
+    public interface Call {
+        List<Event> apply(Event event) throws ServiceException;
+    }
+
+    private final String transition;
+    private final LatencyHistogram latency;
+    private final LongAdder events;
+
+    public TransitionMetrics(TransitionKey transition) {
+        Metrics metrics = Metrics.getInstance();
+
+        this.transition = transition.getTransitionName();
+        this.latency = metrics.histogram(LATENCY, LABEL_TRANSITION,
+                this.transition);
+        this.events = metrics.counter(EVENTS, LABEL_TRANSITION,
+                this.transition);
+    }
+
+    /**
+     * Calls the transition with the given event and records its metrics.
+     *
+     * @param event
+     *            the input event
+     * @param call
+     *            the transition
+     * @return the output events of the transition
+     * @throws ServiceException
+     */
+    public List<Event> record(Event event, Call call) throws ServiceException {
+
+        long start = System.nanoTime();
+
+        try {
+            List<Event> result = call.apply(event);
+
+            if (result != null) {
+                events.add(result.size());
+            }
+
+            return result;
+        } catch (ServiceException | RuntimeException e) {
+            Metrics.getInstance()
+                    .counter(ERRORS, LABEL_TRANSITION, transition,
+                            LABEL_EXCEPTION, e.getClass().getSimpleName())
+                    .increment();
+            throw e;
+        } finally {
+            latency.recordNanos(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.interfaces.adapters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.oscm.provisioning.interfaces.data.Release;
+
+import com.google.gson.Gson;
+
+public class ValueInternerTest {
+
+    private static final String JSON = "{\"instance\":\"%s\","
+            + "\"template\":{\"repository\":\"https://charts.example.org\","
+            + "\"name\":\"oscm-app\",\"version\":\"1.0.0\"},"
+            + "\"parameters\":{\"image\":\"nginx\",\"replicas\":2,"
+            + "\"ports\":[80,443],\"resources\":{\"cpu\":\"100m\"}}}";
+
+    private Gson gson;
+
+    @Before
+    public void setUp() {
+        gson = new Gson();
+        ValueInterner.getInstance().init(true,
+                ValueInterner.DEFAULT_MAX_SIZE);
+    }
+
+    @After
+    public void tearDown() {
+        ValueInterner.getInstance().init(true,
+                ValueInterner.DEFAULT_MAX_SIZE);
+    }
+
+    @Test
+    public void testEqualValuesShared() {
+        Release a = read("oscm-1");
+        Release b = read("oscm-2");
+
+        assertSame(a.getTemplate(), b.getTemplate());
+        assertSame(a.getParameters(), b.getParameters());
+    }
+
+    @Test
+    public void testValuesReadAsBefore() {
+        Map<String, Object> resources = new HashMap<>();
+        resources.put("cpu", "100m");
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("image", "nginx");
+        expected.put("replicas", Double.valueOf(2));
+        expected.put("ports", Arrays.asList(Double.valueOf(80),
+                Double.valueOf(443)));
+        expected.put("resources", resources);
+
+        Map<String, Object> parameters = read("oscm-1").getParameters();
+
+        assertEquals(expected, parameters);
+        assertEquals(expected.hashCode(), parameters.hashCode());
+        assertEquals(Arrays.asList("image", "replicas", "ports", "resources"),
+                Arrays.asList(parameters.keySet().toArray()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSharedParametersImmutable() {
+        read("oscm-1").getParameters().put("image", "httpd");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testNestedParametersImmutable() {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> resources = (Map<String, Object>) read("oscm-1")
+                .getParameters().get("resources");
+
+        resources.put("cpu", "200m");
+    }
+
+    @Test
+    public void testDisabledMaterializesValues() {
+        ValueInterner.getInstance().init(false,
+                ValueInterner.DEFAULT_MAX_SIZE);
+
+        Release a = read("oscm-1");
+        Release b = read("oscm-2");
+
+        assertNotSame(a.getTemplate(), b.getTemplate());
+        assertNotSame(a.getParameters(), b.getParameters());
+
+        a.getParameters().put("image", "httpd");
+        assertEquals("httpd", a.getParameters().get("image"));
+    }
+
+    private Release read(String instance) {
+        return gson.fromJson(String.format(JSON, instance), Release.class);
+    }
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.interfaces.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+
+import com.google.gson.Gson;
+
+public class ReleaseJsonTest {
+
+    // as written by the reflective adapter before the streaming adapters
+    private static final String BASELINE = "{\"status\":\"deployed\","
+            + "\"target\":\"http://rudder:8080\","
+            + "\"template\":{\"repository\":\"https://charts.example.org\","
+            + "\"name\":\"oscm-app\",\"version\":\"1.0.0\"},"
+            + "\"namespace\":\"default\",\"instance\":\"oscm-1\","
+            + "\"parameters\":{\"image\":\"nginx\","
+            + "\"resources\":{\"cpu\":\"100m\"}},"
+            + "\"services\":{\"web\":\"10.0.0.1:80\"}}";
+
+    private Gson gson;
+    private Release release;
+
+    @Before
+    public void setUp() {
+        gson = new Gson();
+
+        Template template = new Template();
+        template.setRepository("https://charts.example.org");
+        template.setName("oscm-app");
+        template.setVersion("1.0.0");
+
+        Map<String, Object> resources = new HashMap<>();
+        resources.put("cpu", "100m");
+
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("image", "nginx");
+        parameters.put("resources", resources);
+
+        Map<String, String> services = new HashMap<>();
+        services.put("web", "10.0.0.1:80");
+
+        release = new Release();
+        release.setTarget("http://rudder:8080");
+        release.setTemplate(template);
+        release.setNamespace("default");
+        release.setInstance("oscm-1");
+        release.setParameters(parameters);
+        release.setServices(services);
+    }
+
+    @Test
+    public void testUnsetFieldsMatchBaseline() {
+        release.setStatus(Status.DEPLOYED);
+        release.setTransitions(null);
+
+        assertEquals(BASELINE, gson.toJson(release));
+    }
+
+    @Test
+    public void testRetryStateOmittedWhenReset() {
+        release.setAttempts(2);
+        release.setNextAttempt(1000);
+        assertTrue(gson.toJson(release).contains(Release.FIELD_ATTEMPTS));
+
+        release.setAttempts(0);
+        release.setNextAttempt(0);
+
+        String json = gson.toJson(release);
+        assertFalse(json.contains(Release.FIELD_ATTEMPTS));
+        assertFalse(json.contains(Release.FIELD_NEXT_ATTEMPT));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        release.setStatus(Status.PENDING);
+        release.setAttempts(1);
+        release.setNextAttempt(1000);
+
+        Release read = gson.fromJson(gson.toJson(release), Release.class);
+
+        assertEquals(Status.PENDING, read.getStatus());
+        assertEquals(1, read.getAttempts());
+        assertEquals(1000, read.getNextAttempt());
+        assertEquals(release.getTemplate().getName(),
+                read.getTemplate().getName());
+        assertEquals(release.getParameters(), read.getParameters());
+        assertEquals(release.getServices(), read.getServices());
+        assertEquals(release.getTransition(Status.PENDING),
+                read.getTransition(Status.PENDING));
+    }
+}
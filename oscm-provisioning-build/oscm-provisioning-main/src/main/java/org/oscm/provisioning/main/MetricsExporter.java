@@ -0,0 +1,290 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.main;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.BooleanSupplier;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.oscm.provisioning.interfaces.metrics.LatencyHistogram;
+import org.oscm.provisioning.interfaces.metrics.Metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Exports the metrics of the application in the Prometheus text format on a
+ * local HTTP endpoint and as attributes of a JMX MBean. Latencies are exported
+ * in seconds as summaries with fixed quantiles. The same HTTP server answers
+ * readiness probes.
+ */
+public class MetricsExporter implements DynamicMBean {
+
+    public static final String PATH = "/metrics";
+    public static final String READY_PATH = "/ready";
+    public static final String OBJECT_NAME = "org.oscm.provisioning:type=Metrics";
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double[] QUANTILES = { 0.5, 0.9, 0.99, 0.999 };
+    private static final double MICROS = 1000000.0;
+
+    private HttpServer server;
+    private ObjectName objectName;
+    private BooleanSupplier ready;
+
+    /**
+     * Starts the HTTP endpoints and registers the MBean.
+     *
+     * @param port
+     *            the port of the HTTP endpoints, no endpoints if not positive
+     * @param ready
+     *            the readiness of the application
+     * @throws IOException
+     * @throws JMException
+     */
+    public void start(int port, BooleanSupplier ready)
+            throws IOException, JMException {
+
+        this.ready = ready;
+
+        MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+        objectName = new ObjectName(OBJECT_NAME);
+
+        if (!mbs.isRegistered(objectName)) {
+            mbs.registerMBean(this, objectName);
+        }
+
+        if (port > 0) {
+            server = HttpServer.create(new InetSocketAddress(port), 0);
+            server.createContext(PATH, this::handle);
+            server.createContext(READY_PATH, this::handleReady);
+            server.start();
+        }
+    }
+
+    public void stop() {
+
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer()
+                        .unregisterMBean(objectName);
+            } catch (JMException e) {
+                // already unregistered
+            }
+            objectName = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+
+        byte[] bytes = format(Metrics.getInstance())
+                .getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, bytes.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void handleReady(HttpExchange exchange) throws IOException {
+
+        boolean isReady = ready.getAsBoolean();
+        byte[] bytes = (isReady ? "ready\n" : "starting\n")
+                .getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type",
+                "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(isReady ? 200 : 503, bytes.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Formats the given metrics in the Prometheus text format.
+     *
+     * @param metrics
+     *            the metrics
+     * @return the formatted metrics
+     */
+    static String format(Metrics metrics) {
+
+        StringBuilder sb = new StringBuilder();
+        Set<String> types = new HashSet<>();
+
+        for (Map.Entry<String, LatencyHistogram> e : metrics.getHistograms()
+                .entrySet()) {
+
+            LatencyHistogram h = e.getValue();
+            type(sb, types, e.getKey(), "summary");
+
+            for (double q : QUANTILES) {
+                sample(sb, label(e.getKey(), "", "quantile", q),
+                        h.getQuantile(q) / MICROS);
+            }
+            sample(sb, label(e.getKey(), "_sum", null, 0),
+                    h.getSum() / MICROS);
+            sample(sb, label(e.getKey(), "_count", null, 0), h.getCount());
+        }
+
+        for (Map.Entry<String, Long> e : metrics.getCounters().entrySet()) {
+            type(sb, types, e.getKey(), "counter");
+            sample(sb, e.getKey(), e.getValue());
+        }
+
+        for (Map.Entry<String, Number> e : metrics.getGauges().entrySet()) {
+            type(sb, types, e.getKey(), "gauge");
+            sample(sb, e.getKey(), e.getValue());
+        }
+
+        return sb.toString();
+    }
+
+    private static void type(StringBuilder sb, Set<String> types, String key,
+            String type) {
+
+        String name = nameOf(key);
+
+        if (types.add(name)) {
+            sb.append("# TYPE ").append(name).append(' ').append(type)
+                    .append('\n');
+        }
+    }
+
+    private static void sample(StringBuilder sb, String key, Number value) {
+        sb.append(key).append(' ').append(value).append('\n');
+    }
+
+    private static String nameOf(String key) {
+        int brace = key.indexOf('{');
+        return brace < 0 ? key : key.substring(0, brace);
+    }
+
+    private static String label(String key, String suffix, String label,
+            double value) {
+
+        int brace = key.indexOf('{');
+        String name = brace < 0 ? key : key.substring(0, brace);
+        String labels = brace < 0 ? "" : key.substring(brace + 1,
+                key.length() - 1);
+
+        if (label != null) {
+            String added = label + "=\"" + value + "\"";
+            labels = labels.isEmpty() ? added : labels + "," + added;
+        }
+
+        return name + suffix + (labels.isEmpty() ? "" : "{" + labels + "}");
+    }
+
+    /**
+     * Flattens all metrics into numeric values with latencies in seconds.
+     *
+     * @return the values mapped by key
+     */
+    private SortedMap<String, Number> values() {
+
+        Metrics metrics = Metrics.getInstance();
+        SortedMap<String, Number> values = new TreeMap<>();
+
+        metrics.getHistograms().forEach((k, h) -> {
+            for (double q : QUANTILES) {
+                values.put(label(k, "", "quantile", q),
+                        Double.valueOf(h.getQuantile(q) / MICROS));
+            }
+            values.put(label(k, "_max", null, 0),
+                    Double.valueOf(h.getMax() / MICROS));
+            values.put(label(k, "_count", null, 0),
+                    Long.valueOf(h.getCount()));
+        });
+
+        values.putAll(metrics.getCounters());
+        values.putAll(metrics.getGauges());
+
+        return values;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) {
+        return values().get(attribute);
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+
+        Map<String, Number> values = values();
+        AttributeList list = new AttributeList();
+
+        for (String attribute : attributes) {
+            if (values.containsKey(attribute)) {
+                list.add(new Attribute(attribute, values.get(attribute)));
+            }
+        }
+
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params,
+            String[] signature) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+
+        Map<String, Number> values = values();
+        MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[values
+                .size()];
+
+        int i = 0;
+        for (Map.Entry<String, Number> e : values.entrySet()) {
+            attributes[i++] = new MBeanAttributeInfo(e.getKey(),
+                    e.getValue().getClass().getName(), e.getKey(), true,
+                    false, false);
+        }
+
+        return new MBeanInfo(getClass().getName(), "Provisioning metrics",
+                attributes, null, null, null);
+    }
+}
@@ -11,6 +11,13 @@ package org.oscm.provisioning.main;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.oscm.common.interfaces.data.Version;
 import org.oscm.common.interfaces.keys.ConfigurationKey;
@@ -24,14 +31,30 @@ import org.oscm.common.rest.provider.SimpleMessageProvider;
 import org.oscm.common.util.ApplicationServer;
 import org.oscm.common.util.ConfigurationManager;
 import org.oscm.common.util.ServiceManager;
+import org.oscm.common.util.logger.ServiceLogger;
+import org.oscm.provisioning.external.ChartIndexCache;
+import org.oscm.provisioning.external.RudderClientRegistry;
+import org.oscm.provisioning.external.StatusHedger;
+import org.oscm.provisioning.external.StatusDigestCache;
+import org.oscm.provisioning.interfaces.adapters.ValueInterner;
 import org.oscm.provisioning.interfaces.data.Release;
 import org.oscm.provisioning.interfaces.enums.Activity;
 import org.oscm.provisioning.interfaces.enums.Application;
 import org.oscm.provisioning.interfaces.enums.Config;
 import org.oscm.provisioning.interfaces.enums.Entity;
+import org.oscm.provisioning.interfaces.enums.Messages;
 import org.oscm.provisioning.interfaces.enums.Transition;
+import org.oscm.provisioning.interfaces.metrics.Metrics;
+import org.oscm.provisioning.interfaces.metrics.TransitionMetrics;
+import org.oscm.provisioning.services.BatchStatusPoller;
+import org.oscm.provisioning.services.PollSchedule;
+import org.oscm.provisioning.services.ReleaseExecutor;
+import org.oscm.provisioning.services.ReleaseIndex;
 import org.oscm.provisioning.services.ReleaseService;
+import org.oscm.provisioning.services.RetryPolicy;
+import org.oscm.provisioning.services.StatusInbox;
 import org.oscm.provisioning.services.SubscriptionService;
+import org.oscm.provisioning.services.UpdateCoalescer;
 
 /**
  * Startup class to orchestrate the application and its technologies.
@@ -49,7 +72,19 @@ public class ProvisioningApplicationServer extends ApplicationServer {
         app.flow(args);
     }
 
-    private List<Stream> streams;
+    private static final ServiceLogger LOGGER = ServiceLogger
+            .getLogger(ProvisioningApplicationServer.class);
+
+    private static final long RESTORE_PROBE_INTERVAL = 100; // ms
+    private static final int LEASE_TICKS = 10;
+
+    private final StartupMonitor startup = new StartupMonitor();
+    private final List<Stream> started = new CopyOnWriteArrayList<>();
+
+    private MetricsExporter exporter;
+    private StatusReceiver statusReceiver;
+    private Thread startupThread;
+    private volatile boolean stopping = false;
 
     @Override
     protected void start() throws Exception {
@@ -64,11 +99,130 @@ public class ProvisioningApplicationServer extends ApplicationServer {
                 Config.LATEST_VERSION, new Version(1, 0, 0),
                 keys.toArray(new ConfigurationKey[] {}));
 
+        startup.phase("configuration");
+
         ClientManager jcm = ClientManager.getInstance();
 
         jcm.addAuthentication(Application.RUDDER, "admin", "admin123");
         jcm.addProvider(Application.RUDDER, SimpleMessageProvider.class);
 
+        ConfigurationManager cm = ConfigurationManager.getInstance();
+
+        RudderClientRegistry registry = RudderClientRegistry.getInstance();
+
+        registry.init(
+                Integer.parseInt(cm.getConfig(Config.RUDDER_MAX_CONNECTIONS)),
+                Long.parseLong(cm.getConfig(Config.RUDDER_CLIENT_IDLE_TIMEOUT)));
+
+        registry.initIsolation(
+                Integer.parseInt(
+                        cm.getConfig(Config.RUDDER_INITIAL_CONCURRENCY)),
+                Integer.parseInt(cm.getConfig(Config.RUDDER_MAX_CONCURRENCY)),
+                Double.parseDouble(
+                        cm.getConfig(Config.RUDDER_LATENCY_TOLERANCE)),
+                Integer.parseInt(cm.getConfig(Config.RUDDER_CIRCUIT_FAILURES)),
+                Long.parseLong(
+                        cm.getConfig(Config.RUDDER_CIRCUIT_OPEN_TIMEOUT)),
+                Integer.parseInt(cm.getConfig(Config.RUDDER_CIRCUIT_PROBES)));
+
+        registry.initDeadlines(
+                Long.parseLong(cm.getConfig(Config.RUDDER_STATUS_DEADLINE)),
+                Boolean.parseBoolean(
+                        cm.getConfig(Config.RUDDER_HEDGE_ENABLED)),
+                Double.parseDouble(cm.getConfig(Config.RUDDER_HEDGE_QUANTILE)),
+                Long.parseLong(cm.getConfig(Config.RUDDER_HEDGE_MIN_DELAY)),
+                Double.parseDouble(cm.getConfig(Config.RUDDER_HEDGE_BUDGET)));
+
+        StatusDigestCache.getInstance().init(
+                Integer.parseInt(cm.getConfig(Config.STATUS_CACHE_SIZE)));
+
+        ChartIndexCache.getInstance().init(
+                Boolean.parseBoolean(cm.getConfig(Config.CHART_CACHE_ENABLED)),
+                Long.parseLong(cm.getConfig(Config.CHART_CACHE_TTL)),
+                Integer.parseInt(cm.getConfig(Config.CHART_CACHE_SIZE)),
+                Integer.parseInt(
+                        cm.getConfig(Config.CHART_CACHE_REFRESH_HITS)),
+                Integer.parseInt(cm.getConfig(Config.CHART_CACHE_TIMEOUT)));
+
+        BatchStatusPoller.getInstance().init(
+                Boolean.parseBoolean(cm.getConfig(Config.POLL_BATCH_ENABLED)),
+                Long.parseLong(cm.getConfig(Config.POLL_BATCH_MAX_AGE)));
+
+        int webhookPort = Integer
+                .parseInt(cm.getConfig(Config.STATUS_WEBHOOK_PORT));
+        String webhookToken = cm.getConfig(Config.STATUS_WEBHOOK_TOKEN);
+
+        // the endpoint is not exposed without authentication
+        if (webhookPort > 0
+                && (webhookToken == null || webhookToken.isEmpty())) {
+            LOGGER.error(Messages.ERROR,
+                    "STATUS_WEBHOOK_TOKEN not set, status notifications are disabled");
+            webhookPort = 0;
+        }
+
+        StatusInbox.getInstance().init(webhookPort > 0,
+                Integer.parseInt(cm.getConfig(Config.STATUS_INBOX_SIZE)),
+                StatusInbox.DEFAULT_MAX_AGE);
+
+        long pendingMin = Long
+                .parseLong(cm.getConfig(Config.POLL_PENDING_MIN));
+        long pendingMax = Long
+                .parseLong(cm.getConfig(Config.POLL_PENDING_MAX));
+        long deployedMin = Long
+                .parseLong(cm.getConfig(Config.POLL_DEPLOYED_MIN));
+        long deployedMax = Long
+                .parseLong(cm.getConfig(Config.POLL_DEPLOYED_MAX));
+
+        // with pushed notifications polling only reconciles lost ones
+        if (webhookPort > 0) {
+            long reconcile = Long.parseLong(
+                    cm.getConfig(Config.STATUS_RECONCILE_INTERVAL));
+
+            pendingMin = Math.max(pendingMin, reconcile);
+            pendingMax = Math.max(pendingMax, pendingMin);
+            deployedMin = Math.max(deployedMin, reconcile);
+            deployedMax = Math.max(deployedMax, deployedMin);
+        }
+
+        PollSchedule.getInstance().init(pendingMin, pendingMax, deployedMin,
+                deployedMax,
+                Double.parseDouble(cm.getConfig(Config.POLL_BACKOFF_FACTOR)),
+                Double.parseDouble(cm.getConfig(Config.POLL_JITTER)));
+
+        // releases of revoked partitions are no longer seen by the ticks
+        PollSchedule.getInstance().initLease(LEASE_TICKS * Math.max(
+                Long.parseLong(cm.getConfig(Config.UPDATE_INTERVAL)),
+                Long.parseLong(cm.getConfig(Config.MONITOR_INTERVAL))));
+
+        RetryPolicy.getInstance().init(
+                Integer.parseInt(cm.getConfig(Config.RETRY_MAX_ATTEMPTS)),
+                Long.parseLong(cm.getConfig(Config.RETRY_INITIAL_DELAY)),
+                Long.parseLong(cm.getConfig(Config.RETRY_MAX_DELAY)),
+                Double.parseDouble(cm.getConfig(Config.RETRY_BACKOFF_FACTOR)),
+                Double.parseDouble(cm.getConfig(Config.RETRY_JITTER)));
+
+        ReleaseExecutor.getInstance().init(
+                Boolean.parseBoolean(cm.getConfig(Config.EXECUTE_ASYNC)),
+                Integer.parseInt(cm.getConfig(Config.EXECUTE_THREADS)),
+                Integer.parseInt(cm.getConfig(Config.EXECUTE_MAX_IN_FLIGHT)),
+                Long.parseLong(cm.getConfig(Config.EXECUTE_ORPHAN_TIMEOUT)),
+                parseWeights(cm.getConfig(Config.EXECUTE_LANE_WEIGHTS)),
+                Long.parseLong(cm.getConfig(Config.EXECUTE_LANE_MAX_WAIT)));
+
+        // coalesced upgrades are issued by the UPDATE tick, which must not
+        // wait for Rudder itself
+        UpdateCoalescer.getInstance().init(ReleaseExecutor.getInstance()
+                .isEnabled()
+                        ? Long.parseLong(
+                                cm.getConfig(Config.UPDATE_COALESCE_WINDOW))
+                        : 0);
+
+        ValueInterner.getInstance().init(
+                Boolean.parseBoolean(cm.getConfig(Config.INTERN_ENABLED)),
+                Integer.parseInt(cm.getConfig(Config.INTERN_MAX_SIZE)));
+
+        startup.phase("components");
+
         // Initialize kafka streams
         EntityTable<Release> releaseTable = new EntityTable<>(Entity.RELEASE);
 
@@ -76,15 +230,10 @@ public class ProvisioningApplicationServer extends ApplicationServer {
                 Transition.PROVISION);
         TransitionStream executeStream = new TransitionStream(
                 Transition.EXECUTE);
-        TimedStream updateStream = new TimedStream(Transition.UPDATE, 10000); // ms
-        TimedStream monitorStream = new TimedStream(Transition.MONITOR, 60000); // ms
-
-        streams = new ArrayList<>();
-        streams.add(releaseTable);
-        streams.add(provisionStream);
-        streams.add(executeStream);
-        streams.add(updateStream);
-        streams.add(monitorStream);
+        TimedStream updateStream = new TimedStream(Transition.UPDATE,
+                Integer.parseInt(cm.getConfig(Config.UPDATE_INTERVAL))); // ms
+        TimedStream monitorStream = new TimedStream(Transition.MONITOR,
+                Integer.parseInt(cm.getConfig(Config.MONITOR_INTERVAL))); // ms
 
         // register services and their supplier in the service manager
         ServiceManager sm = ServiceManager.getInstance();
@@ -92,23 +241,241 @@ public class ProvisioningApplicationServer extends ApplicationServer {
         // Event classes
         sm.setEventSource(Entity.RELEASE, () -> releaseTable);
 
-        // Service classes
+        // Service classes, instrumented with latency and event metrics
+        TransitionMetrics provisionMetrics = new TransitionMetrics(
+                Transition.PROVISION);
+        TransitionMetrics executeMetrics = new TransitionMetrics(
+                Transition.EXECUTE);
+        TransitionMetrics updateMetrics = new TransitionMetrics(
+                Transition.UPDATE);
+        TransitionMetrics monitorMetrics = new TransitionMetrics(
+                Transition.MONITOR);
+
         sm.setTransitionService(Transition.PROVISION,
-                () -> new SubscriptionService()::provision);
+                () -> (e) -> provisionMetrics.record(e,
+                        new SubscriptionService()::provision));
         sm.setTransitionService(Transition.EXECUTE,
-                () -> new ReleaseService()::execute);
+                () -> (e) -> executeMetrics.record(e,
+                        new ReleaseService()::execute));
         sm.setTransitionService(Transition.UPDATE,
-                () -> new ReleaseService()::update);
+                () -> (e) -> updateMetrics.record(e,
+                        new ReleaseService()::update));
         sm.setTransitionService(Transition.MONITOR,
-                () -> new ReleaseService()::monitor);
+                () -> (e) -> monitorMetrics.record(e,
+                        new ReleaseService()::monitor));
+
+        // metrics and readiness endpoint and MBean
+        Metrics.getInstance().addCollector(
+                ProvisioningApplicationServer::collectGauges);
+        Metrics.getInstance().addCollector(startup::collect);
+
+        exporter = new MetricsExporter();
+        exporter.start(Integer.parseInt(cm.getConfig(Config.METRICS_PORT)),
+                startup::isReady);
+
+        if (webhookPort > 0) {
+            statusReceiver = new StatusReceiver();
+            statusReceiver.start(webhookPort, webhookToken);
+        }
+
+        startup.phase("services");
+
+        // the release table and the event driven streams do not depend on
+        // each other
+        startParallel(releaseTable, provisionStream, executeStream);
+
+        startup.phase("streams");
+
+        // the polling streams read the release table, so they are started
+        // once it is restored
+        long timeout = Long
+                .parseLong(cm.getConfig(Config.STARTUP_RESTORE_TIMEOUT));
+
+        startupThread = new Thread(() -> {
+            try {
+                if (!awaitRestore(releaseTable, timeout)) {
+                    LOGGER.error(Messages.ERROR, String.format(
+                            "Release table not restored after %d ms, starting polling anyway",
+                            Long.valueOf(timeout)));
+                }
+
+                startup.phase("restore");
 
-        // startup streams
-        streams.forEach((s) -> s.start());
+                startStream(updateStream);
+                startStream(monitorStream);
+
+                startup.phase("polling");
+
+                if (!stopping) {
+                    startup.ready();
+                }
+            } catch (InterruptedException e) {
+                // stopped during startup
+            }
+        }, "startup");
+        startupThread.setDaemon(true);
+        startupThread.start();
+    }
+
+    /**
+     * Parses the comma separated weights of the install, delete and upgrade
+     * lanes. Missing weights are 1.
+     */
+    private static int[] parseWeights(String value) {
+
+        int[] weights = new int[ReleaseExecutor.Lane.values().length];
+        String[] parts = value.split(",");
+
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = i < parts.length && !parts[i].trim().isEmpty()
+                    ? Integer.parseInt(parts[i].trim()) : 1;
+        }
+
+        return weights;
+    }
+
+    private void startParallel(Stream... streams) throws Exception {
+
+        ExecutorService pool = Executors.newFixedThreadPool(streams.length);
+
+        try {
+            CompletableFuture.allOf(Arrays.stream(streams)
+                    .map((s) -> CompletableFuture
+                            .runAsync(() -> startStream(s), pool))
+                    .toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private synchronized void startStream(Stream stream) {
+
+        if (!stopping) {
+            stream.start();
+            started.add(stream);
+        }
+    }
+
+    /**
+     * Waits until the given table is restored. The state store of a table
+     * cannot be queried while it is restored, so the table is probed with a
+     * random id until the lookup succeeds.
+     *
+     * @return true if restored, false if the timeout has passed
+     */
+    private static boolean awaitRestore(EntityTable<Release> table,
+            long timeout) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + timeout;
+        UUID probe = UUID.randomUUID();
+
+        while (true) {
+            try {
+                table.get(probe);
+                return true;
+            } catch (RuntimeException e) {
+                if (System.currentTimeMillis() >= deadline) {
+                    return false;
+                }
+                Thread.sleep(RESTORE_PROBE_INTERVAL);
+            }
+        }
     }
 
     @Override
     protected void stop() {
-        streams.forEach((s) -> s.stop());
+
+        synchronized (this) {
+            stopping = true;
+        }
+
+        if (startupThread != null) {
+            startupThread.interrupt();
+        }
+
+        started.forEach((s) -> s.stop());
+
+        ReleaseExecutor.getInstance().shutdown();
+        ChartIndexCache.getInstance().shutdown();
+
+        if (statusReceiver != null) {
+            statusReceiver.stop();
+        }
+
+        if (exporter != null) {
+            exporter.stop();
+        }
+    }
+
+    private static void collectGauges(Map<String, Number> gauges) {
+
+        RudderClientRegistry.getInstance().getClients().forEach((t, c) -> {
+            gauges.put(Metrics.key("provisioning_rudder_circuit_state",
+                    "target", t), Integer.valueOf(
+                            c.getCircuitBreaker().getState().ordinal()));
+            gauges.put(Metrics.key("provisioning_rudder_circuit_opened",
+                    "target", t),
+                    Long.valueOf(c.getCircuitBreaker().getOpened()));
+            gauges.put(Metrics.key("provisioning_rudder_circuit_rejected",
+                    "target", t),
+                    Long.valueOf(c.getCircuitBreaker().getRejected()));
+            gauges.put(Metrics.key("provisioning_rudder_concurrency_limit",
+                    "target", t),
+                    Integer.valueOf(c.getConcurrencyLimiter().getLimit()));
+            gauges.put(Metrics.key("provisioning_rudder_in_flight", "target",
+                    t),
+                    Integer.valueOf(c.getConcurrencyLimiter().getInFlight()));
+
+            StatusHedger hedger = c.getStatusHedger();
+            gauges.put(Metrics.key("provisioning_rudder_hedge_rate", "target",
+                    t), Double.valueOf(hedger.getCalls() > 0
+                            ? (double) hedger.getHedges() / hedger.getCalls()
+                            : 0));
+        });
+
+        gauges.put("provisioning_chart_index_size",
+                Integer.valueOf(ChartIndexCache.getInstance().size()));
+
+        gauges.put("provisioning_interned_values",
+                Integer.valueOf(ValueInterner.getInstance().size()));
+
+        StatusDigestCache cache = StatusDigestCache.getInstance();
+        gauges.put("provisioning_status_cache_hits",
+                Long.valueOf(cache.getHits()));
+        gauges.put("provisioning_status_cache_misses",
+                Long.valueOf(cache.getMisses()));
+        gauges.put("provisioning_status_cache_size",
+                Integer.valueOf(cache.size()));
+
+        gauges.put("provisioning_execute_in_flight",
+                Integer.valueOf(ReleaseExecutor.getInstance().getInFlight()));
+
+        for (ReleaseExecutor.Lane lane : ReleaseExecutor.Lane.values()) {
+            gauges.put(Metrics.key("provisioning_execute_lane_queued", "lane",
+                    lane.getLabel()), Integer.valueOf(
+                            ReleaseExecutor.getInstance().getQueued(lane)));
+        }
+        gauges.put("provisioning_status_notifications_held",
+                Integer.valueOf(StatusInbox.getInstance().size()));
+        gauges.put("provisioning_updates_held",
+                Integer.valueOf(UpdateCoalescer.getInstance().size()));
+        gauges.put("provisioning_poll_schedule_size",
+                Integer.valueOf(PollSchedule.getInstance().size()));
+
+        // terminal releases are not indexed
+        for (Release.Status status : Release.Status.values()) {
+            if (status != Release.Status.DELETED
+                    && status != Release.Status.FAILED) {
+                gauges.put(Metrics.key("provisioning_releases", "status",
+                        status.name()), Integer.valueOf(
+                                ReleaseIndex.getInstance().count(status)));
+            }
+        }
     }
 
 }
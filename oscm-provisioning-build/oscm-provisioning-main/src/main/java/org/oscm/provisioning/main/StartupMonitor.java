@@ -0,0 +1,83 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.main;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.oscm.common.util.logger.ServiceLogger;
+import org.oscm.provisioning.interfaces.enums.Messages;
+import org.oscm.provisioning.interfaces.metrics.Metrics;
+
+/**
+ * Measures the phases of the application startup and holds the readiness of
+ * the application. Each phase lasts from the end of the previous one until it
+ * is marked, its duration is logged and exported as gauge. The application is
+ * ready once the release table is restored and all streams are started.
+ */
+public class StartupMonitor {
+
+    public static final String PHASE = "provisioning_startup_phase_seconds";
+    public static final String READY = "provisioning_ready";
+
+    private static final ServiceLogger LOGGER = ServiceLogger
+            .getLogger(StartupMonitor.class);
+
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final long begin = System.nanoTime();
+
+    private long last = begin;
+    private volatile boolean ready = false;
+
+    /**
+     * Marks the end of the given phase.
+     *
+     * @param phase
+     *            the phase name
+     */
+    public synchronized void phase(String phase) {
+
+        long now = System.nanoTime();
+        long duration = now - last;
+        phases.put(phase, Long.valueOf(duration));
+        last = now;
+
+        LOGGER.info(Messages.INFO, String.format("Startup phase %s took %d ms",
+                phase, Long.valueOf(duration / 1000000)));
+    }
+
+    /**
+     * Marks the application as ready and logs the total startup time.
+     */
+    public synchronized void ready() {
+
+        ready = true;
+
+        LOGGER.info(Messages.INFO, String.format("Startup completed in %d ms",
+                Long.valueOf((System.nanoTime() - begin) / 1000000)));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Adds the phase durations in seconds and the readiness to the given
+     * gauges.
+     *
+     * @param gauges
+     *            the gauges
+     */
+    public synchronized void collect(Map<String, Number> gauges) {
+
+        phases.forEach((p, d) -> gauges.put(Metrics.key(PHASE, "phase", p),
+                Double.valueOf(d.longValue() / 1e9)));
+        gauges.put(READY, Integer.valueOf(ready ? 1 : 0));
+    }
+}
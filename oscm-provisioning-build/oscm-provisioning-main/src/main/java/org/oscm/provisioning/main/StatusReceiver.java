@@ -0,0 +1,189 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.main;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.oscm.provisioning.external.data.ReleaseStatusResponse;
+import org.oscm.provisioning.interfaces.metrics.Metrics;
+import org.oscm.provisioning.services.StatusInbox;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local HTTP endpoint for release status notifications pushed by Rudder or a
+ * cluster-side watcher. Accepts a POST of one release status in the format of
+ * the Rudder status response, or an array of them, with the release instance
+ * as name, its revision as version and its chart version. Accepted
+ * notifications are held in the {@link StatusInbox}. The endpoint listens on
+ * all interfaces, so every request has to send the configured token in the
+ * token header.
+ */
+public class StatusReceiver {
+
+    public static final String PATH = "/status";
+    public static final String TOKEN_HEADER = "X-Status-Token";
+
+    public static final String REJECTED = "provisioning_status_notifications_rejected_total";
+
+    private static final int THREADS = 2;
+
+    private final Gson gson = new Gson();
+    private final LongAdder rejected = Metrics.getInstance()
+            .counter(REJECTED);
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private byte[] token;
+
+    /**
+     * Starts the HTTP endpoint.
+     *
+     * @param port
+     *            the port of the endpoint
+     * @param token
+     *            the expected token
+     * @throws IOException
+     * @throws IllegalArgumentException
+     *             if the token is null or empty
+     */
+    public void start(int port, String token) throws IOException {
+
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Status notifications require a token");
+        }
+
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+
+        executor = Executors.newFixedThreadPool(THREADS, (r) -> {
+            Thread thread = new Thread(r, "status-receiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext(PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Gets the port the endpoint listens on, e.g. if started with port 0.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public void stop() {
+
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405);
+                return;
+            }
+
+            if (!isAuthorized(exchange)) {
+                respond(exchange, 401);
+                return;
+            }
+
+            ReleaseStatusResponse[] notifications;
+            try (Reader reader = new InputStreamReader(
+                    exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+                notifications = parse(reader);
+            } catch (JsonParseException | IllegalStateException e) {
+                notifications = null;
+            }
+
+            if (notifications == null || !Arrays.stream(notifications)
+                    .allMatch(StatusInbox::isComplete)) {
+                rejected.increment();
+                respond(exchange, 400);
+                return;
+            }
+
+            StatusInbox inbox = StatusInbox.getInstance();
+
+            for (ReleaseStatusResponse notification : notifications) {
+                if (!inbox.offer(notification)) {
+                    // the sender retries, polling reconciles otherwise
+                    rejected.increment();
+                    respond(exchange, 503);
+                    return;
+                }
+            }
+
+            respond(exchange, 202);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private ReleaseStatusResponse[] parse(Reader reader) {
+
+        JsonElement json = gson.fromJson(reader, JsonElement.class);
+
+        if (json == null) {
+            return null;
+        }
+
+        if (json.isJsonArray()) {
+            return gson.fromJson(json, ReleaseStatusResponse[].class);
+        }
+
+        if (json.isJsonObject()) {
+            return new ReleaseStatusResponse[] {
+                    gson.fromJson(json, ReleaseStatusResponse.class) };
+        }
+
+        return null;
+    }
+
+    private boolean isAuthorized(HttpExchange exchange) {
+
+        String sent = exchange.getRequestHeaders().getFirst(TOKEN_HEADER);
+
+        return sent != null && MessageDigest.isEqual(token,
+                sent.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void respond(HttpExchange exchange, int code)
+            throws IOException {
+        exchange.sendResponseHeaders(code, -1);
+    }
+}
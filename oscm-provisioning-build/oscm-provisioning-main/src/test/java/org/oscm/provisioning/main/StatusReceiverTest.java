@@ -0,0 +1,166 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.main;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.oscm.provisioning.external.data.ReleaseStatusResponse;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Template;
+import org.oscm.provisioning.services.StatusInbox;
+
+public class StatusReceiverTest {
+
+    private static final String TOKEN = "secret";
+
+    private static final String NOTIFICATION = "{\"name\":\"%s\",\"version\":%d,"
+            + "\"chart_version\":\"%s\",\"info\":{\"status\":{\"code\":%d}}}";
+
+    private StatusReceiver receiver;
+    private StatusInbox inbox;
+
+    @Before
+    public void setUp() throws IOException {
+        inbox = StatusInbox.getInstance();
+        inbox.init(true, StatusInbox.DEFAULT_MAX_SIZE,
+                StatusInbox.DEFAULT_MAX_AGE);
+
+        receiver = new StatusReceiver();
+        receiver.start(0, TOKEN);
+    }
+
+    @After
+    public void tearDown() {
+        receiver.stop();
+        inbox.init(false, StatusInbox.DEFAULT_MAX_SIZE,
+                StatusInbox.DEFAULT_MAX_AGE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStartWithoutToken() throws IOException {
+        new StatusReceiver().start(0, "");
+    }
+
+    @Test
+    public void testPostWithoutToken() throws IOException {
+
+        assertEquals(401, post(null, notification("a", 1, "1.0.0",
+                ReleaseStatusResponse.DEPLOYED)));
+        assertEquals(401, post("wrong", notification("a", 1, "1.0.0",
+                ReleaseStatusResponse.DEPLOYED)));
+        assertEquals(0, inbox.size());
+    }
+
+    @Test
+    public void testPost() throws IOException {
+
+        assertEquals(202, post(TOKEN, notification("a", 1, "1.0.0",
+                ReleaseStatusResponse.DEPLOYED)));
+        assertEquals(1, inbox.size());
+
+        ReleaseStatusResponse status = inbox.take(release("a", "1.0.0"));
+
+        assertNotNull(status);
+        assertEquals(ReleaseStatusResponse.DEPLOYED,
+                status.getInfo().getStatus().getCode().intValue());
+        assertNull(inbox.take(release("a", "1.0.0")));
+    }
+
+    @Test
+    public void testPostIncomplete() throws IOException {
+
+        assertEquals(400, post(TOKEN,
+                "{\"name\":\"a\",\"info\":{\"status\":{\"code\":1}}}"));
+        assertEquals(400, post(TOKEN, ""));
+        assertEquals(400, post(TOKEN, "\"a\""));
+        assertEquals(0, inbox.size());
+    }
+
+    @Test
+    public void testPostOlderRevision() throws IOException {
+
+        assertEquals(202, post(TOKEN, "[" + notification("a", 2, "1.0.0",
+                ReleaseStatusResponse.DEPLOYED) + ","
+                + notification("a", 1, "1.0.0", ReleaseStatusResponse.FAILED)
+                + "]"));
+
+        ReleaseStatusResponse status = inbox.take(release("a", "1.0.0"));
+
+        assertEquals(2, status.getVersion().intValue());
+
+        // delayed after the later revision was applied
+        assertEquals(202, post(TOKEN, notification("a", 1, "1.0.0",
+                ReleaseStatusResponse.FAILED)));
+        assertNull(inbox.take(release("a", "1.0.0")));
+    }
+
+    @Test
+    public void testPostOtherChartVersion() throws IOException {
+
+        assertEquals(202, post(TOKEN, notification("a", 1, "1.0.0",
+                ReleaseStatusResponse.DEPLOYED)));
+
+        assertNull(inbox.take(release("a", "1.1.0")));
+        assertEquals(0, inbox.size());
+    }
+
+    private int post(String token, String body) throws IOException {
+
+        URL url = new URL("http://localhost:" + receiver.getPort()
+                + StatusReceiver.PATH);
+
+        HttpURLConnection connection = (HttpURLConnection) url
+                .openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            if (token != null) {
+                connection.setRequestProperty(StatusReceiver.TOKEN_HEADER,
+                        token);
+            }
+
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static String notification(String name, int version,
+            String chartVersion, int code) {
+        return String.format(NOTIFICATION, name, Integer.valueOf(version),
+                chartVersion, Integer.valueOf(code));
+    }
+
+    private static Release release(String instance, String version) {
+
+        Template template = new Template();
+        template.setVersion(version);
+
+        Release release = new Release();
+        release.setInstance(instance);
+        release.setTemplate(template);
+
+        return release;
+    }
+}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.oscm.common.interfaces.exceptions.ServiceException;
+import org.oscm.provisioning.external.RudderClient;
+import org.oscm.provisioning.interfaces.data.Release;
+
+/**
+ * Batches the status polling of releases per target. The status codes of all
+ * releases of a target are fetched with a single listing call and shared by
+ * all releases of that target polled within the maximum snapshot age, so a
+ * polling tick needs one Rudder round-trip per target instead of one per
+ * release. A listing is only fetched if enough releases of the target are due
+ * to outweigh its pages, otherwise the due releases are polled individually.
+ */
+public class BatchStatusPoller {
+
+    public static final long DEFAULT_MAX_AGE = 5000; // ms
+
+    private static final int MIN_BATCH_SIZE = 2;
+
+    private static final BatchStatusPoller poller = new BatchStatusPoller();
+
+    /**
+     * Gets the singleton instance of the poller.
+     *
+     * @return the poller
+     */
+    public static BatchStatusPoller getInstance() {
+        return poller;
+    }
+
+    private static class Snapshot {
+
+        private volatile Map<String, Integer> codes = Collections.emptyMap();
+        private volatile long fetched;
+        private volatile int pages = 1;
+
+        // due releases counted in the current and the previous window
+        private final AtomicInteger due = new AtomicInteger();
+        private volatile int previousDue;
+        private volatile long window;
+    }
+
+    private final ConcurrentMap<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled = true;
+    private volatile long maxAge = DEFAULT_MAX_AGE;
+
+    BatchStatusPoller() {
+    }
+
+    /**
+     * Configures the poller.
+     *
+     * @param enabled
+     *            true if status polling should be batched
+     * @param maxAge
+     *            the time in ms a fetched listing is reused
+     */
+    public void init(boolean enabled, long maxAge) {
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Checks with the batched listing of the release's target whether the
+     * status of the given due release is unchanged. Releases that are not
+     * part of the listing are reported as changed, so that the caller falls
+     * back to an individual status call. The listing is only used if at least
+     * two releases per listing page of the target were due within the current
+     * or the previous snapshot age, as it would not save any calls otherwise.
+     * A failed listing is not retried within the snapshot age and the due
+     * releases are polled individually meanwhile, so it does not count
+     * against each of them.
+     *
+     * @param client
+     *            the client for the release's target
+     * @param release
+     *            the due release to check
+     * @return true if the status is known to be unchanged
+     */
+    public boolean isUnchanged(RudderClient client, Release release) {
+
+        if (!enabled) {
+            return false;
+        }
+
+        Snapshot snapshot = snapshots.computeIfAbsent(release.getTarget(),
+                (t) -> new Snapshot());
+
+        if (!countDue(snapshot)) {
+            return false;
+        }
+
+        Integer code = getCodes(client, snapshot)
+                .get(release.getInstance());
+
+        return code != null && release.getStatus() != null && release
+                .getStatus() == RudderClient.toStatus(code.intValue());
+    }
+
+    /**
+     * Drops all fetched listings.
+     */
+    public void clear() {
+        snapshots.clear();
+    }
+
+    /**
+     * Counts a due release of the target and checks whether enough are due
+     * to fetch the listing.
+     */
+    private boolean countDue(Snapshot snapshot) {
+
+        long now = System.currentTimeMillis();
+
+        if (isExpired(snapshot.window, now)) {
+            synchronized (snapshot) {
+                if (isExpired(snapshot.window, now)) {
+                    snapshot.previousDue = snapshot.due.getAndSet(0);
+                    snapshot.window = now;
+                }
+            }
+        }
+
+        int due = Math.max(snapshot.due.incrementAndGet(),
+                snapshot.previousDue);
+
+        return due >= MIN_BATCH_SIZE * snapshot.pages;
+    }
+
+    private Map<String, Integer> getCodes(RudderClient client,
+            Snapshot snapshot) {
+
+        if (!isExpired(snapshot.fetched, System.currentTimeMillis())) {
+            return snapshot.codes;
+        }
+
+        // only one thread fetches the listing of a target, the others reuse it
+        synchronized (snapshot) {
+            long now = System.currentTimeMillis();
+
+            if (isExpired(snapshot.fetched, now)) {
+                try {
+                    snapshot.codes = client.listReleases();
+                    snapshot.pages = Math.max(1,
+                            (snapshot.codes.size() - 1)
+                                    / RudderClient.LIST_PAGE_SIZE + 1);
+                } catch (ServiceException e) {
+                    snapshot.codes = Collections.emptyMap();
+                }
+                snapshot.fetched = now;
+            }
+
+            return snapshot.codes;
+        }
+    }
+
+    private boolean isExpired(long time, long now) {
+        return time == 0 || now - time > maxAge;
+    }
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.oscm.provisioning.interfaces.data.Template;
+
+/**
+ * Canonical hash of the content of a release, i.e. its template coordinates
+ * and parameters. Parameter maps are normalized before hashing: keys are
+ * sorted on every level and numbers are compared by value, so 3 and 3.0 or
+ * the same map in a different order have the same hash. The hash is the hex
+ * encoded SHA-256 of the canonical form.
+ */
+public class ContentHash {
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private ContentHash() {
+    }
+
+    /**
+     * Computes the content hash of the given template and parameters.
+     *
+     * @param template
+     *            the template, may be null
+     * @param parameters
+     *            the parameters, may be null
+     * @return the hash
+     */
+    public static String of(Template template, Map<String, Object> parameters) {
+
+        StringBuilder sb = new StringBuilder(256);
+
+        if (template != null) {
+            appendString(sb, template.getRepository());
+            appendString(sb, template.getName());
+            appendString(sb, template.getVersion());
+        } else {
+            sb.append('N');
+        }
+
+        appendValue(sb, parameters);
+
+        try {
+            byte[] digest = MessageDigest.getInstance(ALGORITHM)
+                    .digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            // every JRE supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void appendValue(StringBuilder sb, Object value) {
+
+        if (value == null) {
+            sb.append('N');
+        } else if (value instanceof Number) {
+            // JSON round-trips turn all numbers into doubles
+            sb.append('D').append(((Number) value).doubleValue()).append(';');
+        } else if (value instanceof Boolean) {
+            sb.append(((Boolean) value).booleanValue() ? 'T' : 'F');
+        } else if (value instanceof Map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            ((Map<?, ?>) value).forEach(
+                    (k, v) -> sorted.put(String.valueOf(k), v));
+
+            sb.append('{');
+            sorted.forEach((k, v) -> {
+                appendString(sb, k);
+                appendValue(sb, v);
+            });
+            sb.append('}');
+        } else if (value instanceof Iterable) {
+            sb.append('[');
+            ((Iterable<?>) value).forEach((v) -> appendValue(sb, v));
+            sb.append(']');
+        } else {
+            appendString(sb, value.toString());
+        }
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+
+        if (value == null) {
+            sb.append('N');
+        } else {
+            // length prefix keeps the encoding unambiguous
+            sb.append('S').append(value.length()).append(':').append(value);
+        }
+    }
+}
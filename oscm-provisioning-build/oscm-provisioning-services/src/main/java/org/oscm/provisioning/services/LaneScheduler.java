@@ -0,0 +1,256 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.oscm.provisioning.interfaces.metrics.LatencyHistogram;
+import org.oscm.provisioning.interfaces.metrics.Metrics;
+
+/**
+ * Fixed thread pool with one queue per priority lane. Worker threads take
+ * tasks from the lanes by smooth weighted round robin, so a lane with weight 4
+ * is served four times as often as a lane with weight 1 while both have
+ * tasks, and an idle lane does not take any share. Once tasks have waited
+ * longer than the maximum wait, the oldest of them is taken first regardless
+ * of the weights, so no lane starves behind tasks queued after its own. The
+ * wait time of each task is recorded per lane.
+ */
+public class LaneScheduler {
+
+    public static final String WAIT = "provisioning_execute_lane_wait_seconds";
+
+    private static class Task {
+
+        private final Runnable runnable;
+        private final long enqueued = System.nanoTime();
+
+        private Task(Runnable runnable) {
+            this.runnable = runnable;
+        }
+    }
+
+    private final int[] weights;
+    private final long maxWait;
+    private final List<ArrayDeque<Task>> queues;
+    private final int[] current;
+    private final LatencyHistogram[] waits;
+    private final Thread[] workers;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    private int queued = 0;
+    private volatile boolean running = true;
+
+    /**
+     * Creates the scheduler and starts its threads.
+     *
+     * @param name
+     *            the name prefix of the threads
+     * @param threads
+     *            the number of threads, none if the tasks are taken with
+     *            {@link #next()}
+     * @param labels
+     *            the metric labels of the lanes
+     * @param weights
+     *            the weights of the lanes, at least 1 each
+     * @param maxWait
+     *            the wait time in ms after which a task is taken first
+     */
+    public LaneScheduler(String name, int threads, String[] labels,
+            int[] weights, long maxWait) {
+
+        this.weights = weights.clone();
+        this.maxWait = TimeUnit.MILLISECONDS.toNanos(maxWait);
+        this.queues = new ArrayList<>(weights.length);
+        this.current = new int[weights.length];
+        this.waits = new LatencyHistogram[weights.length];
+
+        for (int i = 0; i < weights.length; i++) {
+            this.weights[i] = Math.max(1, weights[i]);
+            queues.add(new ArrayDeque<>());
+            waits[i] = Metrics.getInstance().histogram(WAIT, "lane",
+                    labels[i]);
+        }
+
+        workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Thread(this::work, name + "-" + (i + 1));
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    /**
+     * Gets an executor that submits to the given lane.
+     *
+     * @param lane
+     *            the lane index
+     * @return the executor
+     */
+    public Executor lane(int lane) {
+        return (r) -> submit(lane, r);
+    }
+
+    /**
+     * Queues the given task in the given lane.
+     *
+     * @param lane
+     *            the lane index
+     * @param runnable
+     *            the task
+     * @throws RejectedExecutionException
+     *             if the scheduler is shut down
+     */
+    public void submit(int lane, Runnable runnable) {
+
+        lock.lock();
+        try {
+            if (!running) {
+                throw new RejectedExecutionException();
+            }
+
+            queues.get(lane).add(new Task(runnable));
+            queued++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of tasks waiting in the given lane.
+     *
+     * @param lane
+     *            the lane index
+     * @return the number of tasks
+     */
+    public int getQueued(int lane) {
+
+        lock.lock();
+        try {
+            return queues.get(lane).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the threads. Queued tasks are dropped.
+     */
+    public void shutdown() {
+
+        lock.lock();
+        try {
+            running = false;
+
+            for (ArrayDeque<Task> queue : queues) {
+                queue.clear();
+            }
+            queued = 0;
+
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+    }
+
+    private void work() {
+
+        while (running) {
+            Runnable task;
+
+            try {
+                task = next();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // the task reports its own failures, keep the thread
+            }
+        }
+    }
+
+    /**
+     * Waits for the next task to run and takes it from its lane.
+     *
+     * @return the task
+     * @throws InterruptedException
+     *             if interrupted or shut down while waiting
+     */
+    Runnable next() throws InterruptedException {
+
+        lock.lockInterruptibly();
+        try {
+            while (queued == 0) {
+                if (!running) {
+                    throw new InterruptedException();
+                }
+                notEmpty.await();
+            }
+
+            long now = System.nanoTime();
+            int lane = -1;
+
+            // starvation protection, the longest waiting task goes first
+            long oldest = now - maxWait;
+            for (int i = 0; i < queues.size(); i++) {
+                Task head = queues.get(i).peek();
+                if (head != null && head.enqueued - oldest <= 0) {
+                    oldest = head.enqueued;
+                    lane = i;
+                }
+            }
+
+            if (lane < 0) {
+                int total = 0;
+
+                for (int i = 0; i < queues.size(); i++) {
+                    if (!queues.get(i).isEmpty()) {
+                        current[i] += weights[i];
+                        total += weights[i];
+
+                        if (lane < 0 || current[i] > current[lane]) {
+                            lane = i;
+                        }
+                    } else {
+                        // an idle lane starts over when it gets tasks
+                        current[i] = 0;
+                    }
+                }
+
+                current[lane] -= total;
+            }
+
+            Task task = queues.get(lane).poll();
+            queued--;
+
+            waits[lane].recordNanos(now - task.enqueued);
+
+            return task.runnable;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
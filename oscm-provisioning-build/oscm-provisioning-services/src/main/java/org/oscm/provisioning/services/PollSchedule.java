@@ -0,0 +1,224 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+
+/**
+ * Per-release polling schedule. Each polled release gets its own due time
+ * which backs off exponentially with jitter as long as its status does not
+ * change, so that the number of Rudder calls follows the change activity and
+ * not the size of the fleet. The timed streams tick at the minimum interval
+ * and only poll releases that are due. Scheduling is a single hash lookup per
+ * release.
+ * <p>
+ * The ticks of an instance only visit the releases of the release table
+ * partitions assigned to it, so each release is scheduled by one instance.
+ * When a partition moves to another instance, its releases are no longer
+ * visited here and their entries are dropped once not seen for the lease.
+ */
+public class PollSchedule {
+
+    public static final long DEFAULT_PENDING_MIN = 2000; // ms
+    public static final long DEFAULT_PENDING_MAX = 60000; // ms
+    public static final long DEFAULT_DEPLOYED_MIN = 60000; // ms
+    public static final long DEFAULT_DEPLOYED_MAX = 1800000; // ms
+    public static final double DEFAULT_FACTOR = 2.0;
+    public static final double DEFAULT_JITTER = 0.2;
+    public static final long DEFAULT_LEASE = 600000; // ms
+
+    private static final PollSchedule schedule = new PollSchedule();
+
+    /**
+     * Gets the singleton instance of the schedule.
+     *
+     * @return the schedule
+     */
+    public static PollSchedule getInstance() {
+        return schedule;
+    }
+
+    private static class Entry {
+
+        private final Status status;
+        private long interval;
+        private long due;
+        private volatile long seen;
+
+        private Entry(Status status, long interval, long due) {
+            this.status = status;
+            this.interval = interval;
+            this.due = due;
+            this.seen = due;
+        }
+    }
+
+    private final ConcurrentMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile long pendingMin = DEFAULT_PENDING_MIN;
+    private volatile long pendingMax = DEFAULT_PENDING_MAX;
+    private volatile long deployedMin = DEFAULT_DEPLOYED_MIN;
+    private volatile long deployedMax = DEFAULT_DEPLOYED_MAX;
+    private volatile double factor = DEFAULT_FACTOR;
+    private volatile double jitter = DEFAULT_JITTER;
+    private volatile long lease = DEFAULT_LEASE;
+    private volatile long lastSweep = System.currentTimeMillis();
+
+    PollSchedule() {
+    }
+
+    /**
+     * Configures the schedule.
+     *
+     * @param pendingMin
+     *            the first polling interval in ms for pending releases
+     * @param pendingMax
+     *            the maximum polling interval in ms for pending releases
+     * @param deployedMin
+     *            the first polling interval in ms for deployed releases
+     * @param deployedMax
+     *            the maximum polling interval in ms for deployed releases
+     * @param factor
+     *            the factor the interval grows with after each unchanged poll
+     * @param jitter
+     *            the relative random deviation applied to each interval
+     */
+    public void init(long pendingMin, long pendingMax, long deployedMin,
+            long deployedMax, double factor, double jitter) {
+        this.pendingMin = pendingMin;
+        this.pendingMax = pendingMax;
+        this.deployedMin = deployedMin;
+        this.deployedMax = deployedMax;
+        this.factor = factor;
+        this.jitter = jitter;
+    }
+
+    /**
+     * Configures the lease of the entries.
+     *
+     * @param lease
+     *            the time in ms after which the entry of a release that was
+     *            not seen by a tick is dropped
+     */
+    public void initLease(long lease) {
+        this.lease = lease;
+    }
+
+    /**
+     * Checks whether the given release is due for polling. If so, the next due
+     * time is scheduled with the backed off interval. A release that is seen
+     * with a different status than on its last poll starts over with the
+     * minimum interval of its new status.
+     *
+     * @param release
+     *            the release
+     * @return true if the release should be polled now
+     */
+    public boolean isDue(Release release) {
+
+        long now = System.currentTimeMillis();
+
+        if (now - lastSweep > lease) {
+            lastSweep = now;
+            sweep(now);
+        }
+
+        Entry entry = entries.get(release.getId());
+
+        if (entry == null || entry.status != release.getStatus()) {
+            long min = getMin(release.getStatus());
+
+            // pending releases are polled right away, deployed ones are
+            // spread over their first interval to avoid bursts on startup
+            long due = release.getStatus() == Status.PENDING ? now
+                    : now + (long) (ThreadLocalRandom.current().nextDouble()
+                            * min);
+
+            entry = new Entry(release.getStatus(), min, due);
+            entries.put(release.getId(), entry);
+        }
+
+        entry.seen = now;
+
+        synchronized (entry) {
+            if (entry.due > now) {
+                return false;
+            }
+
+            entry.due = now + jitter(entry.interval);
+            entry.interval = Math.min((long) (entry.interval * factor),
+                    getMax(release.getStatus()));
+
+            return true;
+        }
+    }
+
+    /**
+     * Removes the schedule of the given release if it reached a terminal
+     * status.
+     *
+     * @param release
+     *            the release
+     */
+    public void forget(Release release) {
+        if (release.getStatus() == Status.DELETED
+                || release.getStatus() == Status.FAILED) {
+            entries.remove(release.getId());
+        }
+    }
+
+    /**
+     * Drops the entries of releases that were not seen by a tick for longer
+     * than the lease, e.g. because their partition was assigned to another
+     * instance.
+     *
+     * @param now
+     *            the current time in ms
+     */
+    public void sweep(long now) {
+
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (now - it.next().seen > lease) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of scheduled releases.
+     *
+     * @return the number of releases
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private long getMin(Status status) {
+        return status == Status.PENDING ? pendingMin : deployedMin;
+    }
+
+    private long getMax(Status status) {
+        return status == Status.PENDING ? pendingMax : deployedMax;
+    }
+
+    private long jitter(long interval) {
+        double deviation = (ThreadLocalRandom.current().nextDouble() * 2 - 1)
+                * jitter;
+
+        return Math.max(0, (long) (interval * (1 + deviation)));
+    }
+}
@@ -0,0 +1,425 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.oscm.common.interfaces.data.Event;
+import org.oscm.common.interfaces.exceptions.ConnectionException;
+import org.oscm.common.interfaces.exceptions.ServiceException;
+import org.oscm.provisioning.external.RudderClientRegistry;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+import org.oscm.provisioning.interfaces.enums.Messages;
+
+/**
+ * Executes Rudder operations of the EXECUTE transition asynchronously, so that
+ * a slow Rudder proxy does not stall the stream thread. Operations run on a
+ * dedicated thread pool and their results are collected and emitted by the
+ * next UPDATE tick. The number of operations in flight is bounded; when the
+ * bound is reached, submitting blocks the stream thread, which pushes back on
+ * the consumer of the transition stream.
+ * <p>
+ * Operations are queued in priority lanes by the status of the release, so
+ * installs and deletes are not stuck behind a mass upgrade. The pool serves
+ * the lanes by weight. Submitting to a lane never waits for the lane, only
+ * the bound over all lanes holds the stream thread.
+ */
+public class ReleaseExecutor {
+
+    public static final int DEFAULT_THREADS = 8;
+    public static final int DEFAULT_MAX_IN_FLIGHT = 1000;
+    public static final long DEFAULT_ORPHAN_TIMEOUT = 600000; // ms
+    public static final int[] DEFAULT_LANE_WEIGHTS = { 4, 4, 1 };
+    public static final long DEFAULT_LANE_MAX_WAIT = 30000; // ms
+
+    private static final long MAX_SWEEP_INTERVAL = 60000; // ms
+
+    private static final String ERROR_ORPHANED = "Execution of release %s was lost";
+
+    private static final ReleaseExecutor executor = new ReleaseExecutor();
+
+    /**
+     * Gets the singleton instance of the executor.
+     *
+     * @return the executor
+     */
+    public static ReleaseExecutor getInstance() {
+        return executor;
+    }
+
+    /**
+     * Operation to execute for a release. Implementations update the status
+     * of the given release according to the result.
+     */
+    @FunctionalInterface
+    public interface Operation {
+        void run(Release release) throws ServiceException;
+    }
+
+    /**
+     * Priority lanes of the operations.
+     */
+    public enum Lane {
+        INSTALL, DELETE, UPGRADE;
+
+        private final String label = name().toLowerCase(Locale.ROOT);
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * Gets the lane for the operation of the given release.
+         *
+         * @param release
+         *            the executing release
+         * @return the lane
+         */
+        public static Lane of(Release release) {
+
+            if (release.getStatus() == Status.CREATING) {
+                return INSTALL;
+            }
+
+            if (release.getStatus() == Status.DELETING) {
+                return DELETE;
+            }
+
+            return UPGRADE;
+        }
+    }
+
+    /**
+     * The outcome of an operation together with the status and timestamp of
+     * the release it was submitted for.
+     */
+    private static class Result {
+
+        private final Status submitted;
+        private final Date timestamp;
+        private final Release release;
+        private final long completed = System.currentTimeMillis();
+
+        private Result(Status submitted, Date timestamp, Release release) {
+            this.submitted = submitted;
+            this.timestamp = timestamp;
+            this.release = release;
+        }
+    }
+
+    private final ConcurrentMap<UUID, CompletableFuture<Result>> operations = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled = false;
+    private volatile long orphanTimeout = DEFAULT_ORPHAN_TIMEOUT;
+    private volatile LaneScheduler scheduler;
+    private volatile Semaphore permits;
+    private volatile long lastSweep = System.currentTimeMillis();
+
+    private ReleaseExecutor() {
+    }
+
+    /**
+     * Configures and starts the executor.
+     *
+     * @param enabled
+     *            true if operations should be executed asynchronously
+     * @param threads
+     *            the number of threads executing operations
+     * @param maxInFlight
+     *            the maximum number of running or queued operations
+     * @param orphanTimeout
+     *            the time in ms after which an executing release that is not
+     *            known to this executor is considered as lost, and after
+     *            which a result that was not collected is dropped
+     * @param weights
+     *            the weights of the install, delete and upgrade lanes
+     * @param maxWait
+     *            the time in ms after which a queued operation runs next
+     *            regardless of the weights
+     */
+    public synchronized void init(boolean enabled, int threads,
+            int maxInFlight, long orphanTimeout, int[] weights,
+            long maxWait) {
+
+        shutdown();
+
+        this.orphanTimeout = orphanTimeout;
+
+        if (enabled) {
+            Lane[] lanes = Lane.values();
+            String[] labels = new String[lanes.length];
+
+            for (Lane lane : lanes) {
+                labels[lane.ordinal()] = lane.getLabel();
+            }
+
+            this.permits = new Semaphore(maxInFlight);
+            this.scheduler = new LaneScheduler("release-executor", threads,
+                    labels, weights, maxWait);
+        }
+
+        this.enabled = enabled;
+    }
+
+    /**
+     * Stops the executor. Operations in flight are abandoned.
+     */
+    public synchronized void shutdown() {
+
+        enabled = false;
+
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+
+        operations.clear();
+    }
+
+    /**
+     * Checks whether operations are executed asynchronously.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the number of submitted but not yet collected operations.
+     *
+     * @return the number of operations
+     */
+    public int getInFlight() {
+        return operations.size();
+    }
+
+    /**
+     * Checks whether an operation for the given release was submitted and not
+     * yet collected.
+     *
+     * @param release
+     *            the release
+     * @return true if submitted
+     */
+    public boolean isSubmitted(Release release) {
+        return enabled && operations.containsKey(release.getId());
+    }
+
+    /**
+     * Gets the number of operations waiting for a thread in the given lane.
+     *
+     * @param lane
+     *            the lane
+     * @return the number of operations
+     */
+    public int getQueued(Lane lane) {
+        LaneScheduler current = scheduler;
+        return current != null ? current.getQueued(lane.ordinal()) : 0;
+    }
+
+    /**
+     * Submits the operation for the given release to the lane of its status.
+     * Blocks while the maximum number of operations is in flight over all
+     * lanes.
+     * Operations for the same release are executed in order of submission.
+     * The permit of an operation the scheduler rejects is returned right
+     * away.
+     *
+     * @param release
+     *            the release
+     * @param operation
+     *            the operation to execute
+     */
+    public void submit(Release release, Operation operation) {
+
+        sweep(System.currentTimeMillis());
+
+        Lane lane = Lane.of(release);
+        Semaphore semaphore = permits;
+        Executor service = scheduler.lane(lane.ordinal());
+
+        semaphore.acquireUninterruptibly();
+
+        Status submitted = release.getStatus();
+        Date timestamp = release.getTimestamp();
+
+        try {
+            operations.compute(release.getId(), (id, previous) -> {
+                CompletableFuture<Result> future;
+
+                if (previous == null) {
+                    future = CompletableFuture.supplyAsync(
+                            () -> run(submitted, timestamp, release,
+                                    operation),
+                            service);
+                } else {
+                    future = previous.handleAsync(
+                            (r, t) -> run(submitted, timestamp, release,
+                                    operation),
+                            service);
+                }
+
+                future.whenComplete((r, t) -> semaphore.release());
+
+                return future;
+            });
+        } catch (RejectedExecutionException e) {
+            // e.g. shut down meanwhile, the operation never runs
+            semaphore.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Collects the result of the operation for the given executing release.
+     * The result is merged into the given release, so changes stored since
+     * the operation was submitted are kept. A result for a status the release
+     * has meanwhile left is dropped, as is a result for an older version of
+     * the release, e.g. an upgrade superseded by a held upgrade, which keeps
+     * the release in its status until its own operation has run.
+     *
+     * @param release
+     *            the release read by the UPDATE tick
+     * @return the completed release, an empty list if its operation is still
+     *         running or null if the release is not handled by this executor
+     */
+    public List<Event> collect(Release release) {
+
+        if (!enabled) {
+            return null;
+        }
+
+        sweep(System.currentTimeMillis());
+
+        CompletableFuture<Result> future = operations.get(release.getId());
+
+        if (future == null) {
+            return collectOrphan(release);
+        }
+
+        if (!future.isDone()) {
+            return Collections.emptyList();
+        }
+
+        operations.remove(release.getId(), future);
+
+        Result result = future.join();
+
+        if (release.getStatus() != result.submitted
+                || isNewer(release, result.timestamp)) {
+            return Collections.emptyList();
+        }
+
+        merge(release, result.release);
+
+        return Arrays.asList(release);
+    }
+
+    /**
+     * Removes results that were not collected within the orphan timeout,
+     * e.g. because the partition of the release was assigned to another
+     * instance or the release was deleted meanwhile.
+     */
+    private void sweep(long now) {
+
+        if (now - lastSweep <= Math.min(orphanTimeout, MAX_SWEEP_INTERVAL)) {
+            return;
+        }
+
+        lastSweep = now;
+
+        operations.values().removeIf((f) -> {
+            Result result = f.getNow(null);
+            return result != null && now - result.completed > orphanTimeout;
+        });
+    }
+
+    private static boolean isNewer(Release release, Date submitted) {
+        return release.getTimestamp() != null && submitted != null
+                && release.getTimestamp().after(submitted);
+    }
+
+    private static void merge(Release release, Release completed) {
+
+        Status status = completed.getStatus();
+
+        release.setStatus(status);
+        if (completed.getTransition(status) > 0) {
+            release.setTransition(status, completed.getTransition(status));
+        }
+
+        release.setFailure(completed.getFailure());
+        release.setAttempts(completed.getAttempts());
+        release.setNextAttempt(completed.getNextAttempt());
+    }
+
+    private List<Event> collectOrphan(Release release) {
+
+        if (release.getTimestamp() == null || System.currentTimeMillis()
+                - release.getTimestamp().getTime() < orphanTimeout) {
+            return null;
+        }
+
+        // the lost operation may have completed before it was lost
+        try {
+            if (!RudderClientRegistry.getInstance()
+                    .getClient(release.getTarget()).releaseStatus(release)) {
+                return Collections.emptyList();
+            }
+
+            if (release.getStatus() != Status.CREATING
+                    && release.getStatus() != Status.UPDATING
+                    && release.getStatus() != Status.DELETING) {
+                return Arrays.asList(release);
+            }
+        } catch (ConnectionException e) {
+            // polled again by the next tick
+            return Collections.emptyList();
+        } catch (ServiceException e) {
+            // unknown to Rudder, the operation was lost before it was sent
+        }
+
+        release.setStatus(Status.FAILED);
+        release.setFailure(new ConnectionException(Messages.ERROR,
+                String.format(ERROR_ORPHANED, release.getInstance()))
+                        .getAsFailure());
+
+        return Arrays.asList(release);
+    }
+
+    private static Result run(Status submitted, Date timestamp,
+            Release release, Operation operation) {
+
+        try {
+            operation.run(release);
+        } catch (ServiceException e) {
+            release.setStatus(Status.FAILED);
+            release.setFailure(e.getAsFailure());
+        } catch (RuntimeException e) {
+            release.setStatus(Status.FAILED);
+            release.setFailure(new ConnectionException(Messages.ERROR, e,
+                    e.getMessage()).getAsFailure());
+        }
+
+        return new Result(submitted, timestamp, release);
+    }
+}
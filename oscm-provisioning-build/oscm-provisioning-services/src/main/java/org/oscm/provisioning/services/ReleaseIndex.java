@@ -0,0 +1,117 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+
+/**
+ * Incremental in-memory index of the live releases by status. The index is
+ * updated with every release that passes through the services and counts the
+ * releases per status without scanning the table. Releases that reach DELETED
+ * or FAILED are dropped from the index, so it only grows with the releases
+ * that still need work. The timed streams of the framework still visit every
+ * release of the table, the index does not change which releases a tick
+ * visits.
+ */
+public class ReleaseIndex {
+
+    private static final ReleaseIndex index = new ReleaseIndex();
+
+    /**
+     * Gets the singleton instance of the index.
+     *
+     * @return the index
+     */
+    public static ReleaseIndex getInstance() {
+        return index;
+    }
+
+    private final ConcurrentMap<UUID, Status> statuses = new ConcurrentHashMap<>();
+    private final AtomicIntegerArray counts = new AtomicIntegerArray(
+            Status.values().length);
+
+    ReleaseIndex() {
+    }
+
+    /**
+     * Adds the given release to the index, moves it to its current status or
+     * drops it if it is terminal.
+     *
+     * @param release
+     *            the release
+     */
+    public void update(Release release) {
+
+        if (release.getId() == null || release.getStatus() == null) {
+            return;
+        }
+
+        Status status = release.getStatus();
+
+        if (isTerminal(status)) {
+            // a plain remove is enough for the tombstones visited each tick
+            Status old = statuses.remove(release.getId());
+            if (old != null) {
+                counts.decrementAndGet(old.ordinal());
+            }
+            return;
+        }
+
+        statuses.compute(release.getId(), (id, old) -> {
+            if (old != status) {
+                if (old != null) {
+                    counts.decrementAndGet(old.ordinal());
+                }
+                counts.incrementAndGet(status.ordinal());
+            }
+
+            return status;
+        });
+    }
+
+    /**
+     * Gets the number of live releases with the given status.
+     *
+     * @param status
+     *            the status
+     * @return the number of releases, 0 for DELETED and FAILED
+     */
+    public int count(Status status) {
+        return counts.get(status.ordinal());
+    }
+
+    /**
+     * Gets the number of live releases in the index.
+     *
+     * @return the number of releases
+     */
+    public int size() {
+        return statuses.size();
+    }
+
+    /**
+     * Removes all releases from the index.
+     */
+    public void clear() {
+        statuses.clear();
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    private static boolean isTerminal(Status status) {
+        return status == Status.DELETED || status == Status.FAILED;
+    }
+}
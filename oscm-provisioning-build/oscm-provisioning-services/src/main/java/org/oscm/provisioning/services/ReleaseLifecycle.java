@@ -0,0 +1,138 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import java.util.Locale;
+
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+import org.oscm.provisioning.interfaces.metrics.Metrics;
+
+/**
+ * Records the lifecycle latencies of releases from their status transition
+ * times. When a release leaves one of the working statuses CREATING,
+ * UPDATING, DELETING or PENDING, the time spent in it is recorded as stage
+ * latency. When a release reaches DEPLOYED, DELETED or FAILED, the time since
+ * the start of its operation, i.e. since the subscription that set it to
+ * CREATING, UPDATING or DELETING, is recorded as end-to-end latency. Both are
+ * broken down by target, so slow clusters show up in the distributions. The
+ * transition times are dropped once a release settles, so only releases with
+ * an operation in progress store them.
+ */
+public class ReleaseLifecycle {
+
+    public static final String STAGE = "provisioning_release_stage_seconds";
+    public static final String LIFECYCLE = "provisioning_release_lifecycle_seconds";
+
+    private static final String LABEL_STAGE = "stage";
+    private static final String LABEL_OPERATION = "operation";
+    private static final String LABEL_OUTCOME = "outcome";
+    private static final String LABEL_TARGET = "target";
+
+    private static final String UNKNOWN = "unknown";
+
+    private static final Status[] OPERATIONS = { Status.CREATING,
+            Status.UPDATING, Status.DELETING };
+
+    private static final ReleaseLifecycle lifecycle = new ReleaseLifecycle();
+
+    /**
+     * Gets the singleton instance of the lifecycle metrics.
+     *
+     * @return the lifecycle metrics
+     */
+    public static ReleaseLifecycle getInstance() {
+        return lifecycle;
+    }
+
+    private ReleaseLifecycle() {
+    }
+
+    /**
+     * Records the latencies of the last status change of the given emitted
+     * release, if it was not recorded yet.
+     *
+     * @param release
+     *            the release
+     */
+    public void record(Release release) {
+
+        Status left = release.getPreviousStatus();
+        Status entered = release.getStatus();
+
+        if (left == null || entered == null) {
+            return;
+        }
+
+        release.clearPreviousStatus();
+
+        long now = release.getTransition(entered);
+        String target = release.getTarget() != null ? release.getTarget()
+                : UNKNOWN;
+
+        if (isWorking(left) && release.getTransition(left) > 0) {
+            Metrics.getInstance()
+                    .histogram(STAGE, LABEL_STAGE, label(left), LABEL_TARGET,
+                            target)
+                    .record(micros(now - release.getTransition(left)));
+        }
+
+        if (isFinal(entered)) {
+            Status operation = operationOf(release);
+
+            if (operation != null) {
+                Metrics.getInstance()
+                        .histogram(LIFECYCLE, LABEL_OPERATION,
+                                label(operation), LABEL_OUTCOME,
+                                label(entered), LABEL_TARGET, target)
+                        .record(micros(
+                                now - release.getTransition(operation)));
+            }
+
+            release.setTransitions(null);
+        }
+    }
+
+    /**
+     * Gets the operation status the release entered last, which started the
+     * current operation.
+     */
+    private static Status operationOf(Release release) {
+
+        Status operation = null;
+
+        for (Status status : OPERATIONS) {
+            if (release.getTransition(status) > 0 && (operation == null
+                    || release.getTransition(status) > release
+                            .getTransition(operation))) {
+                operation = status;
+            }
+        }
+
+        return operation;
+    }
+
+    private static boolean isWorking(Status status) {
+        return status == Status.CREATING || status == Status.UPDATING
+                || status == Status.DELETING || status == Status.PENDING;
+    }
+
+    private static boolean isFinal(Status status) {
+        return status == Status.DEPLOYED || status == Status.DELETED
+                || status == Status.FAILED;
+    }
+
+    private static String label(Status status) {
+        return status.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static long micros(long millis) {
+        return Math.max(0, millis) * 1000;
+    }
+}
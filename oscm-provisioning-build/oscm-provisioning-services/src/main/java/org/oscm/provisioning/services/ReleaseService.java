@@ -15,7 +15,11 @@ import java.util.List;
 import org.oscm.common.interfaces.data.Event;
 import org.oscm.common.interfaces.exceptions.ConnectionException;
 import org.oscm.common.interfaces.exceptions.ServiceException;
+import org.oscm.common.interfaces.exceptions.ValidationException;
+import org.oscm.provisioning.external.ChartIndexCache;
 import org.oscm.provisioning.external.RudderClient;
+import org.oscm.provisioning.external.RudderClientRegistry;
+import org.oscm.provisioning.external.data.ReleaseStatusResponse;
 import org.oscm.provisioning.interfaces.data.Release;
 import org.oscm.provisioning.interfaces.data.Release.Status;
 
@@ -29,7 +33,69 @@ public class ReleaseService {
 
         Release release = Release.class.cast(event);
 
-        RudderClient client = new RudderClient(release.getTarget());
+        return index(release, execute(release));
+    }
+
+    private List<Event> execute(Release release) throws ServiceException {
+
+        if (!isExecuting(release)) {
+            return Collections.emptyList();
+        }
+
+        // retries are issued by the UPDATE tick once due, it hands them back
+        // to this stream if operations run synchronously
+        RetryPolicy policy = RetryPolicy.getInstance();
+        if (policy.isRetrying(release)
+                && (ReleaseExecutor.getInstance().isEnabled()
+                        || !policy.isDue(release))) {
+            return Collections.emptyList();
+        }
+
+        // invalid template coordinates fail without a round-trip to Rudder
+        if (release.getStatus() != Status.DELETING) {
+            try {
+                ChartIndexCache.getInstance()
+                        .validate(release.getTemplate());
+            } catch (ValidationException e) {
+                UpdateCoalescer.getInstance().forget(release);
+                release.setStatus(Status.FAILED);
+                release.setFailure(e.getAsFailure());
+
+                return Arrays.asList(release);
+            }
+        }
+
+        // upgrades are debounced and issued by the UPDATE tick
+        if (release.getStatus() == Status.UPDATING
+                && UpdateCoalescer.getInstance().isEnabled()) {
+            UpdateCoalescer.getInstance().offer(release);
+
+            return Collections.emptyList();
+        }
+
+        return dispatch(release);
+    }
+
+    private static List<Event> dispatch(Release release)
+            throws ServiceException {
+
+        ReleaseExecutor executor = ReleaseExecutor.getInstance();
+
+        if (executor.isEnabled()) {
+            executor.submit(release, ReleaseService::run);
+
+            return Collections.emptyList();
+        }
+
+        run(release);
+
+        return Arrays.asList(release);
+    }
+
+    private static void run(Release release) throws ServiceException {
+
+        RudderClient client = RudderClientRegistry.getInstance()
+                .getClient(release.getTarget());
 
         try {
             switch (release.getStatus()) {
@@ -46,32 +112,79 @@ public class ReleaseService {
                 break;
 
             default:
-                return Collections.emptyList();
+                return;
             }
         } catch (ConnectionException e) {
-            release.setStatus(Status.FAILED);
-            release.setFailure(e.getAsFailure());
+            RetryPolicy.getInstance().retry(release, e);
 
-            return Arrays.asList(release);
+            return;
         }
 
+        RetryPolicy.getInstance().reset(release);
         release.setStatus(Status.PENDING);
-
-        return Arrays.asList(release);
     }
 
     public List<Event> update(Event event) throws ServiceException {
 
         Release release = Release.class.cast(event);
 
+        return index(release, update(release));
+    }
+
+    private List<Event> update(Release release) throws ServiceException {
+
+        if (isExecuting(release)
+                && RetryPolicy.getInstance().isRetrying(release)) {
+            return retry(release);
+        }
+
+        UpdateCoalescer coalescer = UpdateCoalescer.getInstance();
+
+        if (release.getStatus() == Status.UPDATING
+                && coalescer.isEnabled()) {
+            return upgrade(release, coalescer);
+        }
+
+        coalescer.forget(release);
+
+        if (isExecuting(release)) {
+            return ReleaseExecutor.getInstance().collect(release);
+        }
+
         if (release.getStatus() != Status.PENDING) {
+            PollSchedule.getInstance().forget(release);
             return null;
         }
 
+        // a pushed notification replaces the poll
+        List<Event> notified = notified(release, Status.PENDING);
+        if (notified != null) {
+            return notified;
+        }
+
+        if (!PollSchedule.getInstance().isDue(release)
+                || !RetryPolicy.getInstance().isDue(release)) {
+            return Collections.emptyList();
+        }
+
         try {
-            RudderClient client = new RudderClient(release.getTarget());
+            RudderClient client = RudderClientRegistry.getInstance()
+                    .getClient(release.getTarget());
+
+            // defer polling while the target is known to be unavailable
+            if (!client.isAvailable()) {
+                return Collections.emptyList();
+            }
+
+            if (BatchStatusPoller.getInstance().isUnchanged(client, release)) {
+                return Collections.emptyList();
+            }
 
-            client.releaseStatus(release);
+            // a missed deadline is polled again by the next tick
+            if (client.releaseStatus(release)
+                    && RetryPolicy.getInstance().reset(release)) {
+                return Arrays.asList(release);
+            }
 
             if (release.getStatus() != Status.PENDING) {
 
@@ -79,8 +192,7 @@ public class ReleaseService {
             }
 
         } catch (ConnectionException e) {
-            release.setStatus(Status.FAILED);
-            release.setFailure(e.getAsFailure());
+            RetryPolicy.getInstance().retry(release, e);
 
             return Arrays.asList(release);
         }
@@ -88,30 +200,152 @@ public class ReleaseService {
         return Collections.emptyList();
     }
 
+    private static List<Event> retry(Release release)
+            throws ServiceException {
+
+        ReleaseExecutor executor = ReleaseExecutor.getInstance();
+
+        // the retried operation is running or has completed
+        if (executor.isSubmitted(release)) {
+            return executor.collect(release);
+        }
+
+        RetryPolicy policy = RetryPolicy.getInstance();
+
+        if (!policy.isDue(release)) {
+            return Collections.emptyList();
+        }
+
+        if (executor.isEnabled()) {
+            executor.submit(release, ReleaseService::run);
+
+            return Collections.emptyList();
+        }
+
+        // the operation is run by the EXECUTE stream, not the tick thread
+        if (policy.redeliver(release)) {
+            return Arrays.asList(release);
+        }
+
+        return Collections.emptyList();
+    }
+
+    private static List<Event> upgrade(Release release,
+            UpdateCoalescer coalescer) throws ServiceException {
+
+        ReleaseExecutor executor = ReleaseExecutor.getInstance();
+
+        // an asynchronous upgrade is running or has completed
+        if (executor.isSubmitted(release)) {
+            return executor.collect(release);
+        }
+
+        // an upgrade not held yet, e.g. after a restart, is held from now on
+        Release latest = coalescer.poll(release);
+
+        if (latest == null) {
+            return Collections.emptyList();
+        }
+
+        return dispatch(latest);
+    }
+
     public List<Event> monitor(Event event) throws ServiceException {
 
         Release release = Release.class.cast(event);
 
+        return index(release, monitor(release));
+    }
+
+    private List<Event> monitor(Release release) throws ServiceException {
+
         if (release.getStatus() != Status.DEPLOYED) {
+            PollSchedule.getInstance().forget(release);
             return null;
         }
 
+        // a pushed notification replaces the poll
+        List<Event> notified = notified(release, Status.DEPLOYED);
+        if (notified != null) {
+            return notified;
+        }
+
+        if (!PollSchedule.getInstance().isDue(release)
+                || !RetryPolicy.getInstance().isDue(release)) {
+            return Collections.emptyList();
+        }
+
         try {
-            RudderClient client = new RudderClient(release.getTarget());
+            RudderClient client = RudderClientRegistry.getInstance()
+                    .getClient(release.getTarget());
 
-            client.releaseStatus(release);
+            // defer polling while the target is known to be unavailable
+            if (!client.isAvailable()) {
+                return Collections.emptyList();
+            }
+
+            if (BatchStatusPoller.getInstance().isUnchanged(client, release)) {
+                return Collections.emptyList();
+            }
+
+            // a missed deadline is polled again by the next tick
+            if (client.releaseStatus(release)
+                    && RetryPolicy.getInstance().reset(release)) {
+                return Arrays.asList(release);
+            }
 
             if (release.getStatus() != Status.DEPLOYED) {
 
                 return Arrays.asList(release);
             }
         } catch (ConnectionException e) {
-            release.setStatus(Status.FAILED);
-            release.setFailure(e.getAsFailure());
+            RetryPolicy.getInstance().retry(release, e);
+
+            return Arrays.asList(release);
+        }
+
+        return Collections.emptyList();
+    }
+
+    private static List<Event> notified(Release release, Status current)
+            throws ServiceException {
 
+        ReleaseStatusResponse status = StatusInbox.getInstance()
+                .take(release);
+
+        if (status == null) {
+            return null;
+        }
+
+        RudderClient.applyStatus(release, status);
+
+        if (RetryPolicy.getInstance().reset(release)
+                || release.getStatus() != current) {
             return Arrays.asList(release);
         }
 
         return Collections.emptyList();
     }
+
+    private static boolean isExecuting(Release release) {
+        return release.getStatus() == Status.CREATING
+                || release.getStatus() == Status.UPDATING
+                || release.getStatus() == Status.DELETING;
+    }
+
+    private static List<Event> index(Release release, List<Event> events) {
+
+        ReleaseIndex index = ReleaseIndex.getInstance();
+
+        index.update(release);
+
+        if (events != null) {
+            events.forEach((e) -> {
+                index.update(Release.class.cast(e));
+                ReleaseLifecycle.getInstance().record(Release.class.cast(e));
+            });
+        }
+
+        return events;
+    }
 }
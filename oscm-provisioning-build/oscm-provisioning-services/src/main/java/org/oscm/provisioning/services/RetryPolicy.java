@@ -0,0 +1,195 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.oscm.common.interfaces.exceptions.ConnectionException;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+import org.oscm.provisioning.interfaces.metrics.Metrics;
+
+/**
+ * Retries of releases whose operation or status poll failed with a
+ * {@link ConnectionException}, e.g. during a short network outage. Instead of
+ * failing right away, the number of attempts and the time of the next attempt
+ * are kept on the release, which stays in its status. The UPDATE and MONITOR
+ * ticks attempt it again once it is due, so no stream thread waits for a
+ * retry. Operations are not run on the tick thread: the UPDATE tick submits
+ * them to the {@link ReleaseExecutor} or, if operations run synchronously,
+ * hands the due release back to the EXECUTE stream. The delay backs off
+ * exponentially with jitter. The release fails once the maximum number of
+ * attempts is used up.
+ */
+public class RetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+    public static final long DEFAULT_INITIAL_DELAY = 5000; // ms
+    public static final long DEFAULT_MAX_DELAY = 300000; // ms
+    public static final double DEFAULT_FACTOR = 2.0;
+    public static final double DEFAULT_JITTER = 0.2;
+
+    public static final String RETRIES = "provisioning_release_retries_total";
+    public static final String EXHAUSTED = "provisioning_release_retries_exhausted_total";
+
+    private static final RetryPolicy policy = new RetryPolicy();
+
+    /**
+     * Gets the singleton instance of the policy.
+     *
+     * @return the policy
+     */
+    public static RetryPolicy getInstance() {
+        return policy;
+    }
+
+    private final LongAdder exhausted = Metrics.getInstance()
+            .counter(EXHAUSTED);
+
+    private final ConcurrentMap<UUID, Integer> redelivered = new ConcurrentHashMap<>();
+
+    private volatile int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private volatile long initialDelay = DEFAULT_INITIAL_DELAY;
+    private volatile long maxDelay = DEFAULT_MAX_DELAY;
+    private volatile double factor = DEFAULT_FACTOR;
+    private volatile double jitter = DEFAULT_JITTER;
+
+    private RetryPolicy() {
+    }
+
+    /**
+     * Configures the policy.
+     *
+     * @param maxAttempts
+     *            the number of retries before a release fails, no retries if
+     *            not positive
+     * @param initialDelay
+     *            the delay in ms before the first retry
+     * @param maxDelay
+     *            the maximum delay in ms between retries
+     * @param factor
+     *            the factor the delay grows with after each retry
+     * @param jitter
+     *            the relative random deviation applied to each delay
+     */
+    public void init(int maxAttempts, long initialDelay, long maxDelay,
+            double factor, double jitter) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.factor = factor;
+        this.jitter = jitter;
+    }
+
+    /**
+     * Schedules the next attempt for the given release after the given
+     * failure, or fails the release if no attempts are left.
+     *
+     * @param release
+     *            the release
+     * @param e
+     *            the failure
+     * @return true if the release is retried, false if it failed
+     */
+    public boolean retry(Release release, ConnectionException e) {
+
+        int attempts = release.getAttempts();
+
+        if (attempts >= maxAttempts) {
+            if (attempts > 0) {
+                exhausted.increment();
+            }
+
+            reset(release);
+            release.setStatus(Status.FAILED);
+            release.setFailure(e.getAsFailure());
+
+            return false;
+        }
+
+        double delay = initialDelay * Math.pow(factor, attempts)
+                * (1 + (ThreadLocalRandom.current().nextDouble() * 2 - 1)
+                        * jitter);
+        delay = Math.min(delay, maxDelay);
+
+        release.setAttempts(attempts + 1);
+        release.setNextAttempt(System.currentTimeMillis() + (long) delay);
+
+        Metrics.getInstance().counter(RETRIES, "status",
+                release.getStatus().name().toLowerCase(Locale.ROOT)).increment();
+
+        return true;
+    }
+
+    /**
+     * Checks whether the given release is waiting for a retry.
+     *
+     * @param release
+     *            the release
+     * @return true if retrying
+     */
+    public boolean isRetrying(Release release) {
+        return release.getAttempts() > 0;
+    }
+
+    /**
+     * Checks whether the next attempt of the given release is due. Releases
+     * that are not retried are always due.
+     *
+     * @param release
+     *            the release
+     * @return true if due
+     */
+    public boolean isDue(Release release) {
+        return release.getNextAttempt() <= System.currentTimeMillis();
+    }
+
+    /**
+     * Marks the due attempt of the given release as handed back to the
+     * EXECUTE stream, so later ticks do not hand it back again while it is
+     * still on its way.
+     *
+     * @param release
+     *            the release
+     * @return true if the attempt was not handed back before
+     */
+    public boolean redeliver(Release release) {
+
+        Integer attempts = Integer.valueOf(release.getAttempts());
+
+        return !attempts.equals(redelivered.put(release.getId(), attempts));
+    }
+
+    /**
+     * Clears the retry state of the given release after a successful attempt
+     * or a new operation.
+     *
+     * @param release
+     *            the release
+     * @return true if the release was retrying
+     */
+    public boolean reset(Release release) {
+
+        boolean retrying = isRetrying(release);
+
+        if (retrying) {
+            redelivered.remove(release.getId());
+        }
+
+        release.setAttempts(0);
+        release.setNextAttempt(0);
+
+        return retrying;
+    }
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.oscm.provisioning.external.data.ReleaseStatusResponse;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.metrics.LatencyHistogram;
+import org.oscm.provisioning.interfaces.metrics.Metrics;
+
+/**
+ * Holds the release status notifications pushed by Rudder or a cluster-side
+ * watcher until the next UPDATE or MONITOR tick applies them. A notification
+ * replaces the status call for its release, so polling only serves as slow
+ * reconciliation for lost notifications. Only the notification with the
+ * latest revision per release instance is kept, and its revision is kept
+ * after it was applied, so a delayed notification of an older revision is
+ * dropped. A notification for another chart version than the one of the
+ * release is dropped as well. Notifications that are not applied within the
+ * maximum age, e.g. for unknown instances or releases of another instance,
+ * are dropped when the inbox is full.
+ */
+public class StatusInbox {
+
+    public static final int DEFAULT_MAX_SIZE = 100000;
+    public static final long DEFAULT_MAX_AGE = 600000; // ms
+
+    public static final String RECEIVED = "provisioning_status_notifications_total";
+    public static final String STALE = "provisioning_status_notifications_stale_total";
+    public static final String DELAY = "provisioning_status_notification_delay_seconds";
+
+    private static final StatusInbox inbox = new StatusInbox();
+
+    /**
+     * Gets the singleton instance of the inbox.
+     *
+     * @return the inbox
+     */
+    public static StatusInbox getInstance() {
+        return inbox;
+    }
+
+    private static class Notification {
+
+        private final ReleaseStatusResponse status;
+        private final int revision;
+        private final long received = System.nanoTime();
+        private final AtomicBoolean taken = new AtomicBoolean();
+
+        private Notification(ReleaseStatusResponse status) {
+            this.status = status;
+            this.revision = status.getVersion().intValue();
+        }
+    }
+
+    private final ConcurrentMap<String, Notification> notifications = new ConcurrentHashMap<>();
+    private final LongAdder received = Metrics.getInstance().counter(RECEIVED);
+    private final LongAdder stale = Metrics.getInstance().counter(STALE);
+    private final LatencyHistogram delay = Metrics.getInstance()
+            .histogram(DELAY);
+
+    private volatile boolean enabled = false;
+    private volatile int maxSize = DEFAULT_MAX_SIZE;
+    private volatile long maxAge = DEFAULT_MAX_AGE * 1000000;
+
+    private StatusInbox() {
+    }
+
+    /**
+     * Configures the inbox.
+     *
+     * @param enabled
+     *            true if status notifications are received
+     * @param maxSize
+     *            the maximum number of held notifications
+     * @param maxAge
+     *            the time in ms after which a held notification may be
+     *            dropped
+     */
+    public void init(boolean enabled, int maxSize, long maxAge) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.maxAge = maxAge * 1000000;
+        notifications.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Holds the given notification for the next tick, unless a notification
+     * of a later revision of the release was received before.
+     *
+     * @param status
+     *            the notified status, with the instance as name
+     * @return false if the notification is incomplete or the inbox is full
+     */
+    public boolean offer(ReleaseStatusResponse status) {
+
+        if (!enabled || !isComplete(status)) {
+            return false;
+        }
+
+        if (notifications.size() >= maxSize && !purge()) {
+            return false;
+        }
+
+        Notification notification = new Notification(status);
+
+        Notification latest = notifications.merge(status.getName(),
+                notification, (held, n) -> held.revision > n.revision ? held
+                        : n);
+
+        if (latest == notification) {
+            received.increment();
+        } else {
+            stale.increment();
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether the given notification names a release instance and
+     * contains a status code, the revision and the chart version.
+     *
+     * @param status
+     *            the notified status
+     * @return true if complete
+     */
+    public static boolean isComplete(ReleaseStatusResponse status) {
+        return status != null && status.getName() != null
+                && status.getInfo() != null
+                && status.getInfo().getStatus() != null
+                && status.getInfo().getStatus().getCode() != null
+                && status.getVersion() != null
+                && status.getChartVersion() != null;
+    }
+
+    /**
+     * Takes the notification for the given release. A notification for
+     * another chart version than the one of the release is dropped.
+     *
+     * @param release
+     *            the release read by the tick
+     * @return the notified status or null if there is none
+     */
+    public ReleaseStatusResponse take(Release release) {
+
+        if (!enabled || release.getInstance() == null) {
+            return null;
+        }
+
+        Notification notification = notifications.get(release.getInstance());
+
+        if (notification == null || !notification.taken.compareAndSet(false,
+                true)) {
+            return null;
+        }
+
+        // e.g. sent for the previous chart while an upgrade is pending
+        if (release.getTemplate() == null || !Objects.equals(
+                release.getTemplate().getVersion(),
+                notification.status.getChartVersion())) {
+            stale.increment();
+            return null;
+        }
+
+        delay.recordNanos(System.nanoTime() - notification.received);
+
+        return notification.status;
+    }
+
+    /**
+     * Gets the number of notifications that are not applied yet.
+     *
+     * @return the number of held notifications
+     */
+    public int size() {
+        return (int) notifications.values().stream()
+                .filter((n) -> !n.taken.get()).count();
+    }
+
+    private boolean purge() {
+
+        long now = System.nanoTime();
+
+        notifications.values()
+                .removeIf((n) -> now - n.received > maxAge);
+
+        // the revisions of applied notifications are dropped first
+        if (notifications.size() >= maxSize) {
+            notifications.values().removeIf((n) -> n.taken.get());
+        }
+
+        return notifications.size() < maxSize;
+    }
+}
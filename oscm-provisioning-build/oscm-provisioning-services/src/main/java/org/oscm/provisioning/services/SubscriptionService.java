@@ -12,16 +12,19 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.oscm.common.interfaces.data.Event;
 import org.oscm.common.interfaces.enums.Operation;
 import org.oscm.common.interfaces.events.EventSource;
 import org.oscm.common.interfaces.exceptions.ServiceException;
 import org.oscm.common.util.ServiceManager;
+import org.oscm.provisioning.external.ChartIndexCache;
 import org.oscm.provisioning.interfaces.data.Release;
 import org.oscm.provisioning.interfaces.data.Release.Status;
 import org.oscm.provisioning.interfaces.data.Subscription;
 import org.oscm.provisioning.interfaces.enums.Entity;
+import org.oscm.provisioning.interfaces.metrics.Metrics;
 
 /**
  * @author miethaner
@@ -29,18 +32,38 @@ import org.oscm.provisioning.interfaces.enums.Entity;
  */
 public class SubscriptionService {
 
+    public static final String UPGRADES_AVOIDED = "provisioning_upgrades_avoided_total";
+
     private static final String INSTANCE_FORMAT = "oscm-%s";
 
-    @SuppressWarnings("unused")
+    private static final LongAdder upgradesAvoided = Metrics.getInstance()
+            .counter(UPGRADES_AVOIDED);
+
     public List<Event> provision(Event event) throws ServiceException {
 
-        Subscription sub = Subscription.class.cast(event);
+        List<Event> events = provision(Subscription.class.cast(event));
+
+        events.forEach((e) -> {
+            ReleaseIndex.getInstance().update(Release.class.cast(e));
+            ReleaseLifecycle.getInstance().record(Release.class.cast(e));
+        });
+
+        return events;
+    }
+
+    @SuppressWarnings("unused")
+    private List<Event> provision(Subscription sub) throws ServiceException {
 
         EventSource<Release> source = ServiceManager.getInstance()
                 .getEventSource(Entity.RELEASE);
 
         Release old = source.get(sub.getId());
 
+        if (sub.getOperation() == Operation.UPDATE) {
+            // warm the chart index before the release is executed
+            ChartIndexCache.getInstance().prefetch(sub.getTemplate());
+        }
+
         if (sub.getOperation() == Operation.UPDATE && old == null) {
 
             Release release = new Release();
@@ -48,8 +71,10 @@ public class SubscriptionService {
             release.setTarget(sub.getTarget());
             release.setTemplate(sub.getTemplate());
             release.setParameters(sub.getParameters());
+            release.setHash(
+                    ContentHash.of(sub.getTemplate(), sub.getParameters()));
             release.setOperation(Operation.UPDATE);
-            release.setStatus(Status.CREATING);
+            start(release, Status.CREATING, sub);
             release.setInstance(String.format(INSTANCE_FORMAT,
                     UUID.randomUUID().toString()));
 
@@ -59,10 +84,20 @@ public class SubscriptionService {
         if (sub.getOperation() == Operation.UPDATE && old != null
                 && old.getTimestamp().before(sub.getTimestamp())) {
 
+            String hash = ContentHash.of(sub.getTemplate(),
+                    sub.getParameters());
+
+            if (isUnchanged(old, hash)) {
+                upgradesAvoided.increment();
+
+                return Collections.emptyList();
+            }
+
             old.setTemplate(sub.getTemplate());
             old.setParameters(sub.getParameters());
+            old.setHash(hash);
             old.setOperation(Operation.UPDATE);
-            old.setStatus(Status.UPDATING);
+            start(old, Status.UPDATING, sub);
 
             return Arrays.asList(old);
         }
@@ -72,7 +107,7 @@ public class SubscriptionService {
                         || old.getStatus() == Status.PENDING)) {
 
             old.setOperation(Operation.UPDATE);
-            old.setStatus(Status.DELETING);
+            start(old, Status.DELETING, sub);
 
             return Arrays.asList(old);
         }
@@ -91,4 +126,41 @@ public class SubscriptionService {
         return Collections.emptyList();
     }
 
+    /**
+     * Sets the release to the given operation status. A new operation is
+     * timed from the subscription, so the lifecycle latencies include the
+     * time until the subscription was processed. Retries of a previous
+     * operation are dropped.
+     */
+    private static void start(Release release, Status status,
+            Subscription sub) {
+
+        Status old = release.getStatus();
+
+        release.setStatus(status);
+        RetryPolicy.getInstance().reset(release);
+
+        if (old != status && sub.getTimestamp() != null) {
+            release.setTransition(status, sub.getTimestamp().getTime());
+        }
+    }
+
+    /**
+     * Checks whether an update with the given content hash is a re-send of
+     * the content the release already has, so that it can be skipped.
+     */
+    static boolean isUnchanged(Release release, String hash) {
+        return hash.equals(release.getHash()) && isCurrent(release);
+    }
+
+    /**
+     * Checks whether the release is installed or being installed with its
+     * current content, so that an identical update has nothing to do.
+     */
+    private static boolean isCurrent(Release release) {
+        return release.getStatus() == Status.CREATING
+                || release.getStatus() == Status.UPDATING
+                || release.getStatus() == Status.PENDING
+                || release.getStatus() == Status.DEPLOYED;
+    }
 }
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 17, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.metrics.Metrics;
+
+/**
+ * Debounces the upgrades of releases. An updating release is held for the
+ * configured window, and every further update of the same release within the
+ * window replaces it and restarts the window, up to a maximum delay. When the
+ * window has passed, the UPDATE tick issues a single upgrade with the latest
+ * template and parameters. Afterwards the release is remembered as upgraded,
+ * so stale reads of the same update do not trigger a second upgrade.
+ * <p>
+ * Held releases are not persisted. A held release is still stored as
+ * updating with its latest template and parameters, so after a restart the
+ * UPDATE tick holds it again and the upgrade is issued one window later.
+ */
+public class UpdateCoalescer {
+
+    public static final long DEFAULT_WINDOW = 0; // ms
+
+    public static final String COALESCED = "provisioning_updates_coalesced_total";
+
+    private static final int MAX_DELAY_WINDOWS = 6;
+
+    private static final UpdateCoalescer coalescer = new UpdateCoalescer();
+
+    /**
+     * Gets the singleton instance of the coalescer.
+     *
+     * @return the coalescer
+     */
+    public static UpdateCoalescer getInstance() {
+        return coalescer;
+    }
+
+    private static class Entry {
+
+        private Release release;
+        private long first;
+        private long due;
+        private boolean upgraded;
+
+        private Entry(Release release, long now, long window) {
+            this.release = release;
+            this.first = now;
+            this.due = now + window;
+        }
+    }
+
+    private final ConcurrentMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = Metrics.getInstance()
+            .counter(COALESCED);
+
+    private volatile long window = DEFAULT_WINDOW;
+
+    private UpdateCoalescer() {
+    }
+
+    /**
+     * Configures the coalescer.
+     *
+     * @param window
+     *            the debounce window in ms, 0 to upgrade right away
+     */
+    public void init(long window) {
+        this.window = window;
+    }
+
+    public boolean isEnabled() {
+        return window > 0;
+    }
+
+    /**
+     * Holds the given updating release. Replaces a held release of the same
+     * id if the given one is newer and restarts the window.
+     *
+     * @param release
+     *            the updating release
+     */
+    public void offer(Release release) {
+
+        long now = System.currentTimeMillis();
+
+        entries.compute(release.getId(), (id, entry) -> {
+
+            if (entry == null || entry.upgraded
+                    && isNewer(release, entry.release)) {
+                return new Entry(release, now, window);
+            }
+
+            synchronized (entry) {
+                if (!entry.upgraded) {
+                    if (!isNewer(entry.release, release)) {
+                        entry.release = release;
+                    }
+
+                    entry.due = Math.min(now + window,
+                            entry.first + window * MAX_DELAY_WINDOWS);
+                    coalesced.increment();
+                }
+            }
+
+            return entry;
+        });
+    }
+
+    /**
+     * Gets the release to upgrade for the given updating release read by the
+     * UPDATE tick. A release that is not held yet, e.g. after a restart, is
+     * held from now on.
+     *
+     * @param release
+     *            the updating release
+     * @return the latest release if its window has passed, null otherwise
+     */
+    public Release poll(Release release) {
+
+        Entry entry = entries.get(release.getId());
+
+        if (entry == null || entry.upgraded
+                && isNewer(release, entry.release)) {
+            offer(release);
+            return null;
+        }
+
+        synchronized (entry) {
+            if (entry.upgraded
+                    || entry.due > System.currentTimeMillis()) {
+                return null;
+            }
+
+            entry.upgraded = true;
+
+            return entry.release;
+        }
+    }
+
+    /**
+     * Removes the given release once it is no longer updating.
+     *
+     * @param release
+     *            the release
+     */
+    public void forget(Release release) {
+        entries.remove(release.getId());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    private static boolean isNewer(Release a, Release b) {
+        return a.getTimestamp() != null && (b.getTimestamp() == null
+                || a.getTimestamp().after(b.getTimestamp()));
+    }
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.oscm.common.interfaces.exceptions.ConnectionException;
+import org.oscm.provisioning.external.RudderClient;
+import org.oscm.provisioning.external.data.ReleaseStatusResponse;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+import org.oscm.provisioning.interfaces.enums.Messages;
+
+public class BatchStatusPollerTest {
+
+    private static final String TARGET = "http://rudder";
+
+    private BatchStatusPoller poller;
+    private RudderClient client;
+    private Map<String, Integer> codes;
+
+    @Before
+    public void setUp() throws Exception {
+        poller = new BatchStatusPoller();
+        poller.init(true, 60000);
+
+        codes = new HashMap<>();
+        client = mock(RudderClient.class);
+        when(client.listReleases()).thenReturn(codes);
+    }
+
+    @Test
+    public void testSingleDueReleaseNotBatched() throws Exception {
+        Release release = release("a", Status.DEPLOYED);
+        codes.put("a", Integer.valueOf(ReleaseStatusResponse.DEPLOYED));
+
+        assertFalse(poller.isUnchanged(client, release));
+        verify(client, never()).listReleases();
+    }
+
+    @Test
+    public void testDueReleasesShareListing() throws Exception {
+        codes.put("a", Integer.valueOf(ReleaseStatusResponse.DEPLOYED));
+        codes.put("b", Integer.valueOf(ReleaseStatusResponse.DEPLOYED));
+        codes.put("c", Integer.valueOf(ReleaseStatusResponse.FAILED));
+
+        poller.isUnchanged(client, release("a", Status.DEPLOYED));
+
+        assertTrue(poller.isUnchanged(client, release("b", Status.DEPLOYED)));
+        assertFalse(poller.isUnchanged(client, release("c", Status.DEPLOYED)));
+        assertFalse(poller.isUnchanged(client, release("d", Status.DEPLOYED)));
+        verify(client, times(1)).listReleases();
+    }
+
+    @Test
+    public void testLargeListingNeedsMoreDueReleases() throws Exception {
+        for (int i = 0; i < RudderClient.LIST_PAGE_SIZE * 2 + 1; i++) {
+            codes.put("r" + i,
+                    Integer.valueOf(ReleaseStatusResponse.DEPLOYED));
+        }
+
+        poller.init(true, 200);
+
+        poller.isUnchanged(client, release("r0", Status.DEPLOYED));
+        poller.isUnchanged(client, release("r1", Status.DEPLOYED));
+        verify(client, times(1)).listReleases();
+
+        // three pages are only worth it for six due releases
+        Thread.sleep(250);
+        for (int i = 0; i < 5; i++) {
+            assertFalse(poller.isUnchanged(client,
+                    release("r" + i, Status.DEPLOYED)));
+        }
+        verify(client, times(1)).listReleases();
+
+        assertTrue(poller.isUnchanged(client, release("r5", Status.DEPLOYED)));
+        verify(client, times(2)).listReleases();
+    }
+
+    @Test
+    public void testFailedListingNotRetried() throws Exception {
+        when(client.listReleases()).thenThrow(
+                new ConnectionException(Messages.ERROR, "unavailable"));
+
+        for (int i = 0; i < 10; i++) {
+            assertFalse(poller.isUnchanged(client,
+                    release("r" + i, Status.DEPLOYED)));
+        }
+
+        verify(client, times(1)).listReleases();
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        poller.init(false, 60000);
+        codes.put("a", Integer.valueOf(ReleaseStatusResponse.DEPLOYED));
+
+        for (int i = 0; i < 3; i++) {
+            assertFalse(poller.isUnchanged(client,
+                    release("a", Status.DEPLOYED)));
+        }
+        verify(client, never()).listReleases();
+    }
+
+    private static Release release(String instance, Status status) {
+        Release release = new Release();
+        release.setId(UUID.randomUUID());
+        release.setTarget(TARGET);
+        release.setInstance(instance);
+        release.setStatus(status);
+        return release;
+    }
+}
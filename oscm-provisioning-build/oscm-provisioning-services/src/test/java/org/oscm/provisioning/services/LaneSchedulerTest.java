@@ -0,0 +1,96 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Takes the tasks without worker threads, so the order is deterministic.
+ */
+public class LaneSchedulerTest {
+
+    private static final String[] LABELS = { "install", "delete", "upgrade" };
+    private static final int[] WEIGHTS = { 4, 4, 1 };
+    private static final long NO_MAX_WAIT = 3600000;
+
+    private final List<Integer> order = new ArrayList<>();
+    private LaneScheduler scheduler;
+
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testWeightedOrder() throws Exception {
+        scheduler = new LaneScheduler("test", 0, LABELS, WEIGHTS,
+                NO_MAX_WAIT);
+
+        fill(0, 9);
+        fill(1, 9);
+        fill(2, 9);
+
+        take(9);
+
+        assertEquals(Arrays.asList(0, 1, 0, 1, 2, 0, 1, 0, 1), order);
+    }
+
+    @Test
+    public void testIdleLaneTakesNoShare() throws Exception {
+        scheduler = new LaneScheduler("test", 0, LABELS, WEIGHTS,
+                NO_MAX_WAIT);
+
+        fill(0, 8);
+        fill(2, 8);
+
+        take(10);
+
+        assertEquals(8, count(0));
+        assertEquals(2, count(2));
+    }
+
+    @Test
+    public void testMaxWaitPromotes() throws Exception {
+        scheduler = new LaneScheduler("test", 0, LABELS, WEIGHTS, 50);
+
+        fill(2, 1);
+        Thread.sleep(100);
+        fill(0, 4);
+
+        take(1);
+
+        assertEquals(Arrays.asList(2), order);
+        assertEquals(4, scheduler.getQueued(0));
+        assertEquals(0, scheduler.getQueued(2));
+    }
+
+    private void fill(int lane, int tasks) {
+        for (int i = 0; i < tasks; i++) {
+            scheduler.submit(lane, () -> order.add(Integer.valueOf(lane)));
+        }
+    }
+
+    private void take(int tasks) throws InterruptedException {
+        for (int i = 0; i < tasks; i++) {
+            scheduler.next().run();
+        }
+    }
+
+    private int count(int lane) {
+        return (int) order.stream().filter((l) -> l.intValue() == lane)
+                .count();
+    }
+}
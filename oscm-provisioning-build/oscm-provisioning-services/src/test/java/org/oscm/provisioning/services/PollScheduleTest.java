@@ -0,0 +1,160 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+
+/**
+ * Simulates several instances whose ticks visit the releases of the table
+ * partitions assigned to them, as the stream threads of the framework do.
+ */
+public class PollScheduleTest {
+
+    private static final int PARTITIONS = 12;
+    private static final int RELEASES = 1200;
+    private static final long INTERVAL = 60000;
+    private static final long LEASE = 200;
+
+    private List<Release> releases;
+
+    @Before
+    public void setUp() {
+        releases = new ArrayList<>();
+        for (int i = 0; i < RELEASES; i++) {
+            Release release = new Release();
+            release.setId(UUID.randomUUID());
+            release.setStatus(Status.PENDING);
+            releases.add(release);
+        }
+    }
+
+    @Test
+    public void testEachReleasePolledOnce() {
+        PollSchedule[] instances = instances(3);
+
+        Map<UUID, Integer> polls = tick(instances, 3);
+
+        assertEquals(RELEASES, polls.size());
+        polls.values().forEach((p) -> assertEquals(1, p.intValue()));
+
+        // the partitions are split evenly, the releases roughly so
+        for (PollSchedule instance : instances) {
+            assertTrue(instance.size() > RELEASES / 3 / 2);
+        }
+    }
+
+    @Test
+    public void testRebalanceMovesReleases() throws Exception {
+        PollSchedule[] instances = instances(3);
+        tick(instances, 3);
+
+        // the third instance leaves, the two others take over its partitions
+        // and poll the moved pending releases right away
+        Map<UUID, Integer> polls = tick(instances, 2);
+
+        for (Release release : releases) {
+            boolean moved = owner(release, 3) != owner(release, 2);
+            assertEquals(moved, polls.containsKey(release.getId()));
+        }
+        polls.values().forEach((p) -> assertEquals(1, p.intValue()));
+
+        // the third instance rejoins, entries of revoked partitions expire
+        Thread.sleep(2 * LEASE);
+        tick(instances, 3);
+
+        for (int i = 0; i < instances.length; i++) {
+            instances[i].sweep(System.currentTimeMillis());
+
+            int owned = 0;
+            for (Release release : releases) {
+                if (owner(release, 3) == i) {
+                    owned++;
+                }
+            }
+            assertEquals(owned, instances[i].size());
+        }
+    }
+
+    @Test
+    public void testSweepKeepsSeenReleases() {
+        PollSchedule schedule = new PollSchedule();
+        schedule.initLease(LEASE);
+
+        Release release = releases.get(0);
+        assertTrue(schedule.isDue(release));
+
+        schedule.sweep(System.currentTimeMillis());
+        assertEquals(1, schedule.size());
+
+        schedule.sweep(System.currentTimeMillis() + 2 * LEASE);
+        assertEquals(0, schedule.size());
+    }
+
+    @Test
+    public void testForgetTerminalRelease() {
+        PollSchedule schedule = new PollSchedule();
+
+        Release release = releases.get(0);
+        assertTrue(schedule.isDue(release));
+        assertFalse(schedule.isDue(release));
+
+        release.setStatus(Status.DELETED);
+        schedule.forget(release);
+        assertEquals(0, schedule.size());
+    }
+
+    private PollSchedule[] instances(int count) {
+
+        PollSchedule[] instances = new PollSchedule[count];
+        for (int i = 0; i < count; i++) {
+            instances[i] = new PollSchedule();
+            instances[i].init(INTERVAL, INTERVAL, INTERVAL, INTERVAL, 1.0,
+                    0.0);
+            instances[i].initLease(LEASE);
+        }
+
+        return instances;
+    }
+
+    /**
+     * Visits each release on the instance its partition is assigned to and
+     * counts the due polls per release.
+     */
+    private Map<UUID, Integer> tick(PollSchedule[] instances, int members) {
+
+        Map<UUID, Integer> polls = new HashMap<>();
+
+        for (Release release : releases) {
+            if (instances[owner(release, members)].isDue(release)) {
+                polls.merge(release.getId(), Integer.valueOf(1),
+                        (a, b) -> Integer.valueOf(a.intValue() + 1));
+            }
+        }
+
+        return polls;
+    }
+
+    private static int owner(Release release, int members) {
+        return Math.floorMod(release.getId().hashCode(), PARTITIONS)
+                % members;
+    }
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+
+public class ReleaseExecutorTest {
+
+    private static final long ORPHAN_TIMEOUT = 100;
+
+    private ReleaseExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = ReleaseExecutor.getInstance();
+        executor.init(true, 2, 10, ORPHAN_TIMEOUT,
+                ReleaseExecutor.DEFAULT_LANE_WEIGHTS,
+                ReleaseExecutor.DEFAULT_LANE_MAX_WAIT);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testUncollectedResultEvicted() throws Exception {
+        Release moved = creating();
+
+        executor.submit(moved, (r) -> r.setStatus(Status.PENDING));
+        assertTrue(executor.isSubmitted(moved));
+
+        // e.g. the partition of the release was assigned to another instance
+        Thread.sleep(ORPHAN_TIMEOUT * 3);
+
+        Release next = creating();
+        executor.submit(next, (r) -> r.setStatus(Status.PENDING));
+
+        assertFalse(executor.isSubmitted(moved));
+        assertTrue(executor.isSubmitted(next));
+        assertEquals(1, executor.getInFlight());
+    }
+
+    @Test
+    public void testRunningOperationKept() throws Exception {
+        Release running = creating();
+
+        executor.submit(running, (r) -> {
+            try {
+                Thread.sleep(ORPHAN_TIMEOUT * 5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        Thread.sleep(ORPHAN_TIMEOUT * 3);
+
+        executor.submit(creating(), (r) -> r.setStatus(Status.PENDING));
+
+        assertTrue(executor.isSubmitted(running));
+    }
+
+    private static Release creating() {
+        Release release = new Release();
+        release.setId(UUID.randomUUID());
+        release.setTimestamp(new Date());
+        release.setStatus(Status.CREATING);
+        return release;
+    }
+}
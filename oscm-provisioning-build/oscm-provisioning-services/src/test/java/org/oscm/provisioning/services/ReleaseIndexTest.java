@@ -0,0 +1,97 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+
+public class ReleaseIndexTest {
+
+    private ReleaseIndex index;
+
+    @Before
+    public void setUp() {
+        index = new ReleaseIndex();
+    }
+
+    @Test
+    public void testCountsFollowStatus() {
+        Release release = release(Status.CREATING);
+
+        index.update(release);
+        index.update(release);
+        assertEquals(1, index.count(Status.CREATING));
+
+        release.setStatus(Status.PENDING);
+        index.update(release);
+        assertEquals(0, index.count(Status.CREATING));
+        assertEquals(1, index.count(Status.PENDING));
+
+        release.setStatus(Status.DEPLOYED);
+        index.update(release);
+        assertEquals(0, index.count(Status.PENDING));
+        assertEquals(1, index.count(Status.DEPLOYED));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void testTerminalReleasesDropped() {
+        Release deleted = release(Status.DEPLOYED);
+        Release failed = release(Status.PENDING);
+
+        index.update(deleted);
+        index.update(failed);
+        assertEquals(2, index.size());
+
+        deleted.setStatus(Status.DELETED);
+        failed.setStatus(Status.FAILED);
+        index.update(deleted);
+        index.update(failed);
+
+        assertEquals(0, index.size());
+        assertEquals(0, index.count(Status.DEPLOYED));
+        assertEquals(0, index.count(Status.PENDING));
+        assertEquals(0, index.count(Status.DELETED));
+        assertEquals(0, index.count(Status.FAILED));
+    }
+
+    @Test
+    public void testTombstonesNotAdded() {
+        for (int i = 0; i < 100; i++) {
+            index.update(release(i % 2 == 0 ? Status.DELETED : Status.FAILED));
+        }
+
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void testIncompleteReleaseIgnored() {
+        index.update(new Release());
+
+        Release release = new Release();
+        release.setId(UUID.randomUUID());
+        index.update(release);
+
+        assertEquals(0, index.size());
+    }
+
+    private static Release release(Status status) {
+        Release release = new Release();
+        release.setId(UUID.randomUUID());
+        release.setTarget("http://rudder");
+        release.setStatus(status);
+        return release;
+    }
+}
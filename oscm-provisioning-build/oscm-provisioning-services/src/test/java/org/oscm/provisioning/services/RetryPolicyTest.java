@@ -0,0 +1,151 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.oscm.common.interfaces.exceptions.ConnectionException;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+import org.oscm.provisioning.interfaces.enums.Messages;
+import org.oscm.provisioning.interfaces.metrics.Metrics;
+
+public class RetryPolicyTest {
+
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long INITIAL_DELAY = 1000;
+    private static final long MAX_DELAY = 3000;
+    private static final double FACTOR = 2.0;
+    private static final double JITTER = 0.2;
+
+    private RetryPolicy policy;
+    private Release release;
+    private ConnectionException failure;
+
+    @Before
+    public void setUp() {
+        policy = RetryPolicy.getInstance();
+        policy.init(MAX_ATTEMPTS, INITIAL_DELAY, MAX_DELAY, FACTOR, JITTER);
+
+        release = new Release();
+        release.setId(UUID.randomUUID());
+        release.setStatus(Status.CREATING);
+
+        failure = new ConnectionException(Messages.ERROR, "unreachable");
+    }
+
+    @After
+    public void tearDown() {
+        policy.init(RetryPolicy.DEFAULT_MAX_ATTEMPTS,
+                RetryPolicy.DEFAULT_INITIAL_DELAY,
+                RetryPolicy.DEFAULT_MAX_DELAY, RetryPolicy.DEFAULT_FACTOR,
+                RetryPolicy.DEFAULT_JITTER);
+    }
+
+    @Test
+    public void testBackoff() {
+        assertDelay(800, 1200);
+        assertDelay(1600, 2400);
+
+        // capped by the maximum delay
+        assertDelay(MAX_DELAY, MAX_DELAY);
+        assertDelay(MAX_DELAY, MAX_DELAY);
+
+        assertEquals(MAX_ATTEMPTS, release.getAttempts());
+        assertTrue(policy.isRetrying(release));
+        assertFalse(policy.isDue(release));
+        assertEquals(Status.CREATING, release.getStatus());
+    }
+
+    @Test
+    public void testExhausted() {
+        long exhausted = exhausted();
+
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            assertTrue(policy.retry(release, failure));
+        }
+        assertFalse(policy.retry(release, failure));
+
+        assertEquals(Status.FAILED, release.getStatus());
+        assertNotNull(release.getFailure());
+        assertEquals(0, release.getAttempts());
+        assertFalse(policy.isRetrying(release));
+        assertEquals(exhausted + 1, exhausted());
+    }
+
+    @Test
+    public void testNoRetries() {
+        long exhausted = exhausted();
+        policy.init(0, INITIAL_DELAY, MAX_DELAY, FACTOR, JITTER);
+
+        assertFalse(policy.retry(release, failure));
+
+        // nothing was retried, so nothing was exhausted
+        assertEquals(Status.FAILED, release.getStatus());
+        assertEquals(exhausted, exhausted());
+    }
+
+    @Test
+    public void testReset() {
+        assertFalse(policy.reset(release));
+
+        policy.retry(release, failure);
+        policy.retry(release, failure);
+
+        assertTrue(policy.reset(release));
+        assertEquals(0, release.getAttempts());
+        assertFalse(policy.isRetrying(release));
+        assertTrue(policy.isDue(release));
+        assertFalse(policy.reset(release));
+
+        // starts over from the initial delay
+        assertDelay(800, 1200);
+    }
+
+    @Test
+    public void testRedeliverOncePerAttempt() {
+        policy.retry(release, failure);
+
+        assertTrue(policy.redeliver(release));
+        assertFalse(policy.redeliver(release));
+
+        policy.retry(release, failure);
+
+        assertTrue(policy.redeliver(release));
+        assertFalse(policy.redeliver(release));
+
+        // a new operation may be handed back again
+        policy.reset(release);
+        policy.retry(release, failure);
+
+        assertTrue(policy.redeliver(release));
+        assertFalse(policy.redeliver(release));
+    }
+
+    private void assertDelay(long min, long max) {
+        long before = System.currentTimeMillis();
+        assertTrue(policy.retry(release, failure));
+        long after = System.currentTimeMillis();
+
+        assertTrue(release.getNextAttempt() >= before + min);
+        assertTrue(release.getNextAttempt() <= after + max);
+    }
+
+    private static long exhausted() {
+        return Metrics.getInstance().counter(RetryPolicy.EXHAUSTED).sum();
+    }
+}
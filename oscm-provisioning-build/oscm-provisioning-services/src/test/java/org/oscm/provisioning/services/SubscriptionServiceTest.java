@@ -0,0 +1,108 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+import org.oscm.provisioning.interfaces.data.Template;
+
+public class SubscriptionServiceTest {
+
+    private Template template;
+    private Map<String, Object> parameters;
+
+    @Before
+    public void setUp() {
+        template = template("1.0.0");
+
+        parameters = new HashMap<>();
+        parameters.put("replicas", Integer.valueOf(3));
+        parameters.put("image", "nginx");
+    }
+
+    @Test
+    public void testUnchangedSkipped() {
+        Release release = release(Status.DEPLOYED);
+
+        assertTrue(SubscriptionService.isUnchanged(release,
+                ContentHash.of(template("1.0.0"), new HashMap<>(parameters))));
+
+        release.setStatus(Status.UPDATING);
+        assertTrue(SubscriptionService.isUnchanged(release,
+                ContentHash.of(template, parameters)));
+    }
+
+    @Test
+    public void testChangedNotSkipped() {
+        Release release = release(Status.DEPLOYED);
+
+        assertFalse(SubscriptionService.isUnchanged(release,
+                ContentHash.of(template("1.1.0"), parameters)));
+
+        parameters.put("replicas", Integer.valueOf(4));
+        assertFalse(SubscriptionService.isUnchanged(release,
+                ContentHash.of(template, parameters)));
+    }
+
+    @Test
+    public void testNotCurrentNotSkipped() {
+        String hash = ContentHash.of(template, parameters);
+
+        for (Status status : Arrays.asList(Status.FAILED, Status.DELETING,
+                Status.DELETED)) {
+            assertFalse(status.name(), SubscriptionService
+                    .isUnchanged(release(status), hash));
+        }
+    }
+
+    @Test
+    public void testHashCanonical() {
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("image", "nginx");
+        reordered.put("replicas", Double.valueOf(3.0));
+
+        assertEquals(ContentHash.of(template, parameters),
+                ContentHash.of(template, reordered));
+
+        reordered.put("replicas", "3");
+        assertNotEquals(ContentHash.of(template, parameters),
+                ContentHash.of(template, reordered));
+    }
+
+    private Release release(Status status) {
+        Release release = new Release();
+        release.setTemplate(template);
+        release.setParameters(parameters);
+        release.setHash(ContentHash.of(template, parameters));
+        release.setStatus(status);
+
+        return release;
+    }
+
+    private static Template template(String version) {
+        Template template = new Template();
+        template.setRepository("stable");
+        template.setName("nginx");
+        template.setVersion(version);
+
+        return template;
+    }
+}
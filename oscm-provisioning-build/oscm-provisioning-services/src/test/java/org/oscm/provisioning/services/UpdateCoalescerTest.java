@@ -0,0 +1,152 @@
+/*******************************************************************************
+ *
+ *  Copyright FUJITSU LIMITED 2026
+ *
+ *  Creation Date: Oct 18, 2026
+ *
+ *******************************************************************************/
+
+package org.oscm.provisioning.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.oscm.common.interfaces.data.Event;
+import org.oscm.provisioning.interfaces.data.Release;
+import org.oscm.provisioning.interfaces.data.Release.Status;
+
+public class UpdateCoalescerTest {
+
+    private static final long WINDOW = 50;
+    private static final long AWAIT = 5000;
+
+    private UpdateCoalescer coalescer;
+    private ReleaseExecutor executor;
+    private UUID id;
+
+    @Before
+    public void setUp() {
+        coalescer = UpdateCoalescer.getInstance();
+        coalescer.init(WINDOW);
+
+        executor = ReleaseExecutor.getInstance();
+        executor.init(true, 1, 10, ReleaseExecutor.DEFAULT_ORPHAN_TIMEOUT,
+                ReleaseExecutor.DEFAULT_LANE_WEIGHTS,
+                ReleaseExecutor.DEFAULT_LANE_MAX_WAIT);
+
+        id = UUID.randomUUID();
+    }
+
+    @After
+    public void tearDown() {
+        coalescer.forget(updating(0));
+        coalescer.init(UpdateCoalescer.DEFAULT_WINDOW);
+        executor.shutdown();
+    }
+
+    @Test
+    public void testUpdatesCoalesced() throws Exception {
+        Release first = updating(1);
+        Release second = updating(2);
+
+        coalescer.offer(first);
+        coalescer.offer(second);
+
+        assertNull(coalescer.poll(second));
+
+        Thread.sleep(WINDOW * 2);
+
+        assertSame(second, coalescer.poll(second));
+
+        // a stale read of the same update is not upgraded again
+        assertNull(coalescer.poll(second));
+    }
+
+    @Test
+    public void testUpdateDuringUpgradeNotLost() throws Exception {
+        Release first = updating(1);
+
+        coalescer.offer(first);
+        Thread.sleep(WINDOW * 2);
+        assertSame(first, coalescer.poll(first));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.submit(first, (r) -> {
+            await(latch);
+            r.setStatus(Status.PENDING);
+        });
+
+        // a newer update arrives while the upgrade of the first runs
+        Release second = updating(2);
+        coalescer.offer(second);
+
+        latch.countDown();
+
+        List<Event> collected = collect(second);
+
+        assertTrue(collected.isEmpty());
+        assertEquals(Status.UPDATING, second.getStatus());
+        assertFalse(executor.isSubmitted(second));
+
+        // the held update is upgraded once its window passed
+        Thread.sleep(WINDOW * 2);
+        assertSame(second, coalescer.poll(second));
+    }
+
+    @Test
+    public void testUpgradeCollected() throws Exception {
+        Release first = updating(1);
+
+        executor.submit(first, (r) -> r.setStatus(Status.PENDING));
+
+        Release stored = updating(1);
+
+        List<Event> collected = collect(stored);
+
+        assertEquals(1, collected.size());
+        assertEquals(Status.PENDING, stored.getStatus());
+    }
+
+    private Release updating(long timestamp) {
+        Release release = new Release();
+        release.setId(id);
+        release.setTimestamp(new Date(timestamp));
+        release.setStatus(Status.UPDATING);
+        return release;
+    }
+
+    private List<Event> collect(Release release) throws InterruptedException {
+        long end = System.currentTimeMillis() + AWAIT;
+
+        List<Event> collected = executor.collect(release);
+
+        // empty while running, or once the result was dropped
+        while (collected.isEmpty() && executor.isSubmitted(release)
+                && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+            collected = executor.collect(release);
+        }
+
+        return collected;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(AWAIT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}